@@ -9,6 +9,8 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.core.StorageSettings.DataFileFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
@@ -23,11 +25,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -57,8 +62,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = initStorage(addressBookStorage, userPrefsStorage, userPrefs);
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,6 +72,39 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs},
+     * journaled or in the data file format chosen in its storage settings.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        if (storageSettings.isJournalEnabled()) {
+            logger.info("Using journaled storage for data file " + userPrefs.getAddressBookFilePath());
+            return new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    storageSettings.getJournalCompactionThreshold());
+        }
+        if (storageSettings.getDataFileFormat() == DataFileFormat.BINARY) {
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath(), storageSettings.getBackupCount());
+        }
+        return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), storageSettings.getBackupCount(),
+                storageSettings.isDataFilePrettyPrinted());
+    }
+
+    /**
+     * Returns the {@code Storage} for {@code userPrefs}, which saves the address book in the background
+     * if a write-behind delay is set in its storage settings.
+     * Journaled storage only appends small changes on each save, so it is always used directly.
+     */
+    private Storage initStorage(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            ReadOnlyUserPrefs userPrefs) {
+        Storage storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        if (storageSettings.isJournalEnabled() || storageSettings.getWriteBehindMaxDelay() <= 0) {
+            return storageManager;
+        }
+        return new WriteBehindStorage(storageManager, storageSettings.getWriteBehindMaxDelay());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +215,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
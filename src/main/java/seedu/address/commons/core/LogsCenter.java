@@ -66,6 +66,35 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Logs a message formatted from {@code format} and {@code arg} with {@link String#format} to {@code logger} at
+     * {@code level}. The message is only formatted if {@code logger} is enabled for {@code level}, so logging in
+     * frequently run code costs nothing more than a level check when that level is disabled.
+     */
+    public static void log(Logger logger, Level level, String format, Object arg) {
+        if (logger.isLoggable(level)) {
+            logger.log(level, String.format(format, arg));
+        }
+    }
+
+    /**
+     * Similar to {@link #log(Logger, Level, String, Object)}, with two arguments.
+     */
+    public static void log(Logger logger, Level level, String format, Object arg1, Object arg2) {
+        if (logger.isLoggable(level)) {
+            logger.log(level, String.format(format, arg1, arg2));
+        }
+    }
+
+    /**
+     * Similar to {@link #log(Logger, Level, String, Object)}, with any number of arguments.
+     */
+    public static void log(Logger logger, Level level, String format, Object... args) {
+        if (logger.isLoggable(level)) {
+            logger.log(level, String.format(format, args));
+        }
+    }
+
     /**
      * Removes all handlers from the {@code logger}.
      */
@@ -0,0 +1,133 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings used to store the address book data.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    /**
+     * Formats the data file can be written in.
+     */
+    public enum DataFileFormat {
+        JSON, BINARY
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private static final long DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1024 * 1024; // 1MB
+    private static final long DEFAULT_WRITE_BEHIND_MAX_DELAY = 500; // milliseconds
+    private static final int DEFAULT_BACKUP_COUNT = 3;
+
+    private final boolean isJournalEnabled;
+    private final long journalCompactionThreshold;
+    private final long writeBehindMaxDelay;
+    private final int backupCount;
+    private final boolean isDataFilePrettyPrinted;
+    private final DataFileFormat dataFileFormat;
+
+    /**
+     * Constructs a {@code StorageSettings} that saves the whole address book in the background
+     * shortly after every change.
+     */
+    public StorageSettings() {
+        isJournalEnabled = false;
+        journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+        writeBehindMaxDelay = DEFAULT_WRITE_BEHIND_MAX_DELAY;
+        backupCount = DEFAULT_BACKUP_COUNT;
+        isDataFilePrettyPrinted = false;
+        dataFileFormat = DataFileFormat.JSON;
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the specified settings.
+     *
+     * @param isJournalEnabled whether changes are appended to a journal instead of rewriting the data file.
+     * @param journalCompactionThreshold size in bytes the journal may grow to before it is folded into the data file.
+     * @param writeBehindMaxDelay longest time in milliseconds a change may wait before it is written to the data
+     *     file in the background, or 0 to write every change before the command completes.
+     * @param backupCount number of previous versions of the data file to keep.
+     * @param isDataFilePrettyPrinted whether the data file is indented for easier reading, at the cost of a larger
+     *     file that is slower to write. Only applies to json data files.
+     * @param dataFileFormat format the data file is written in. Data files in any format can be read.
+     */
+    public StorageSettings(boolean isJournalEnabled, long journalCompactionThreshold, long writeBehindMaxDelay,
+            int backupCount, boolean isDataFilePrettyPrinted, DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.isJournalEnabled = isJournalEnabled;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.writeBehindMaxDelay = writeBehindMaxDelay;
+        this.backupCount = backupCount;
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public long getWriteBehindMaxDelay() {
+        return writeBehindMaxDelay;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return isJournalEnabled == otherStorageSettings.isJournalEnabled
+                && journalCompactionThreshold == otherStorageSettings.journalCompactionThreshold
+                && writeBehindMaxDelay == otherStorageSettings.writeBehindMaxDelay
+                && backupCount == otherStorageSettings.backupCount
+                && isDataFilePrettyPrinted == otherStorageSettings.isDataFilePrettyPrinted
+                && dataFileFormat == otherStorageSettings.dataFileFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isJournalEnabled, journalCompactionThreshold, writeBehindMaxDelay, backupCount,
+                isDataFilePrettyPrinted, dataFileFormat);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isJournalEnabled", isJournalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("writeBehindMaxDelay", writeBehindMaxDelay)
+                .add("backupCount", backupCount)
+                .add("isDataFilePrettyPrinted", isDataFilePrettyPrinted)
+                .add("dataFileFormat", dataFileFormat)
+                .toString();
+    }
+}
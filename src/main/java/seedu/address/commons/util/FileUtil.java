@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 
 /**
  * Writes and reads files
@@ -12,6 +20,9 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +86,128 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, so it is left intact if writing fails part way.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, 0);
+    }
+
+    /**
+     * Writes given string to a file, keeping up to {@code backupCount} previous versions of the file.
+     * Will create the file if it does not exist yet.
+     * The content is first written and synced to a temporary file in the same directory, which then atomically
+     * replaces the file, so the file is left intact if writing fails part way.
+     * The previous version of the file becomes backup 1, backup 1 becomes backup 2, and so on. Backup 1 is made by
+     * linking or copying the file rather than moving it, so there is a version of the file in its place at every
+     * point, even if the process stops between the steps.
+     * The file keeps its POSIX permissions, where the file system has them.
+     *
+     * @see #getBackupFilePath(Path, int)
+     */
+    public static void writeToFile(Path file, String content, int backupCount) throws IOException {
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)), backupCount);
+    }
+
+    /**
+     * Writes the content written by {@code contentWriter} to a file, keeping up to {@code backupCount} previous
+     * versions of the file. The content is streamed to the file through a buffer rather than built up in memory.
+     * Similar to {@link #writeToFile(Path, String, int)} otherwise.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter, int backupCount) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(),
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            copyPermissions(file, tempFile);
+
+            if (backupCount > 0 && isFileExists(file)) {
+                rotateBackups(file, backupCount);
+            }
+            moveAtomically(tempFile, file);
+            syncDirectory(file.toAbsolutePath().getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the backup of {@code file} from {@code generation} writes ago.
+     */
+    public static Path getBackupFilePath(Path file, int generation) {
+        assert generation > 0;
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    /**
+     * Shifts every backup of {@code file} one generation older, dropping the oldest,
+     * and makes the current version of {@code file} backup 1, leaving {@code file} itself in place.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        for (int generation = backupCount - 1; generation > 0; generation--) {
+            Path backupFile = getBackupFilePath(file, generation);
+            if (Files.exists(backupFile)) {
+                moveAtomically(backupFile, getBackupFilePath(file, generation + 1));
+            }
+        }
+
+        Path firstBackupFile = getBackupFilePath(file, 1);
+        Files.deleteIfExists(firstBackupFile);
+        try {
+            // The file is only ever replaced, never written in place, so a hard link keeps its current version
+            Files.createLink(firstBackupFile, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, firstBackupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gives {@code tempFile} the POSIX permissions of {@code file}, as temporary files are created readable and
+     * writable by their owner only. Does nothing if {@code file} does not exist yet or has no POSIX permissions.
+     */
+    private static void copyPermissions(Path file, Path tempFile) throws IOException {
+        PosixFileAttributeView fileView = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+        PosixFileAttributeView tempFileView = Files.getFileAttributeView(tempFile, PosixFileAttributeView.class);
+        if (fileView == null || tempFileView == null || !isFileExists(file)) {
+            return;
+        }
+        tempFileView.setPermissions(fileView.readAttributes().permissions());
+    }
+
+    /**
+     * Flushes the entries of {@code directory} to disk, so that a file moved into it is still there after a crash.
+     * Does nothing on platforms where directories cannot be opened for syncing.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened as files on some platforms, such as Windows
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
 }
@@ -5,7 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -29,13 +30,76 @@ public class StringUtil {
 
         String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        checkArgument(indexOfWhitespace(preppedWord, 0) == -1, "Word parameter should be a single word");
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        // Compares each whitespace-separated word of the sentence in place, rather than splitting the sentence
+        int wordStart = 0;
+        while (wordStart < sentence.length()) {
+            int wordEnd = indexOfWhitespace(sentence, wordStart);
+            if (wordEnd == -1) {
+                wordEnd = sentence.length();
+            }
+            if (wordEnd - wordStart == preppedWord.length()
+                    && sentence.regionMatches(true, wordStart, preppedWord, 0, preppedWord.length())) {
+                return true;
+            }
+            wordStart = wordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of {@code sentence}, which are separated by whitespace, in the same way as
+     * {@link #containsWordIgnoreCase(String, String)} separates them. Runs of whitespace do not produce empty words.
+     */
+    public static List<String> splitIntoWords(String sentence) {
+        requireNonNull(sentence);
+
+        List<String> words = new ArrayList<>();
+        int wordStart = 0;
+        while (wordStart < sentence.length()) {
+            int wordEnd = indexOfWhitespace(sentence, wordStart);
+            if (wordEnd == -1) {
+                wordEnd = sentence.length();
+            }
+            if (wordEnd > wordStart) {
+                words.add(sentence.substring(wordStart, wordEnd));
+            }
+            wordStart = wordEnd + 1;
+        }
+        return words;
+    }
+
+    /**
+     * Returns {@code word} with its case folded, such that two words are equal ignoring case, as by
+     * {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     *   <br>examples:<pre>
+     *       foldCase("ABc").equals(foldCase("abC")) == true
+     *       foldCase("ABc").equals(foldCase("ab")) == false
+     *       </pre>
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+        // Mirrors the per-character comparison of String#regionMatches(boolean, ...), which treats two characters
+        // as equal if they are equal once converted to upper case and then to lower case
+        StringBuilder folded = new StringBuilder(word.length());
+        word.codePoints().forEach(c -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+        return folded.toString();
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code s} at or after {@code fromIndex}, or -1 if there
+     * is none. Whitespace characters are those matched by {@code \s} in a regular expression.
+     */
+    private static int indexOfWhitespace(String s, int fromIndex) {
+        for (int i = fromIndex; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
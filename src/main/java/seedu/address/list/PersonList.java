@@ -3,20 +3,50 @@ package seedu.address.list;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 
 /**
  * A list of persons that can be filtered and sorted.
+ * <p>
+ * Diagnostics on how the list is used are gathered as plain counters, which can be read with
+ * {@link #getDiagnostics()}. A summary is logged at {@code FINE} level once every {@value #DIAGNOSTICS_SAMPLE_INTERVAL}
+ * filter updates, and the contents of the list are only logged when {@link #logContents()} is called.
+ * <p>
+ * A single sorted view is kept for the lifetime of the list. Each person in the source list is given a sequence key
+ * that increases with its position in the source list, so that ties in flag status can be broken without looking up
+ * the index of the person in the source list. A person that replaces another in place inherits its sequence key.
  */
 public class PersonList {
-    private static final Logger logger = Logger.getLogger(PersonList.class.getName());
+    private static final int DIAGNOSTICS_SAMPLE_INTERVAL = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(PersonList.class);
+
+    private final ObservableList<Person> persons;
+    private final Map<Person, Long> sequenceKeys = new IdentityHashMap<>();
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final ListChangeListener<Person> sequenceKeyUpdater = this::updateSequenceKeys;
+    private long nextSequenceKey = 0;
+
+    private long accessCount = 0;
+    private long filterUpdateCount = 0;
+    private long lastFilterUpdateNanos = 0;
+    private long totalFilterUpdateNanos = 0;
+    private long maxFilterUpdateNanos = 0;
 
     /**
      * Creates a PersonList with the given list of persons.
@@ -26,7 +56,17 @@ public class PersonList {
     public PersonList(ObservableList<Person> persons) {
         requireNonNull(persons);
 
+        this.persons = persons;
+        persons.forEach(this::assignNewSequenceKey);
+
+        // Registered before the views are created so that new persons have a sequence key
+        // by the time the sorted view compares them.
+        persons.addListener(new WeakListChangeListener<>(sequenceKeyUpdater));
+
         this.filteredPersons = new FilteredList<>(persons);
+        this.sortedPersons = new SortedList<>(filteredPersons,
+                Comparator.comparing(Person::getFlagStatus)
+                        .thenComparingLong(this::getSequenceKey));
     }
 
     /**
@@ -36,7 +76,9 @@ public class PersonList {
      */
     public void updatePersonListFilter(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        long start = System.nanoTime();
         filteredPersons.setPredicate(predicate);
+        recordFilterUpdate(System.nanoTime() - start);
     }
 
     /**
@@ -46,13 +88,172 @@ public class PersonList {
      * @return sorted observable list of persons
      */
     public ObservableList<Person> getPersonList() {
-        logger.info(filteredPersons.stream().map(p -> p.getName()).toList().toString());
-        ObservableList<Person> result = new SortedList<>(filteredPersons,
-                Comparator.comparing(Person::getFlagStatus)
-                        .thenComparing(p -> filteredPersons.getSource().indexOf(p))
-        );
-        logger.info(result.stream().map(p -> p.getName()).toList().toString());
-        return result;
+        accessCount++;
+        return sortedPersons;
+    }
+
+    /**
+     * Returns a snapshot of the diagnostics gathered so far.
+     */
+    public Diagnostics getDiagnostics() {
+        return new Diagnostics(persons.size(), sortedPersons.size(), accessCount, filterUpdateCount,
+                lastFilterUpdateNanos, totalFilterUpdateNanos, maxFilterUpdateNanos);
+    }
+
+    /**
+     * Logs the names of the persons in the list, in display order, at {@code FINE} level.
+     * Meant for debugging only, as the whole list is walked.
+     */
+    public void logContents() {
+        if (!logger.isLoggable(Level.FINE)) {
+            return;
+        }
+        logger.fine("Persons in list: " + sortedPersons.stream().map(Person::getName).toList());
+    }
+
+    private void recordFilterUpdate(long elapsedNanos) {
+        filterUpdateCount++;
+        lastFilterUpdateNanos = elapsedNanos;
+        totalFilterUpdateNanos += elapsedNanos;
+        maxFilterUpdateNanos = Math.max(maxFilterUpdateNanos, elapsedNanos);
+        if (filterUpdateCount % DIAGNOSTICS_SAMPLE_INTERVAL == 0) {
+            LogsCenter.log(logger, Level.FINE, "%s", getDiagnostics());
+        }
+    }
+
+    private long getSequenceKey(Person person) {
+        Long key = sequenceKeys.get(person);
+        assert key != null : "Person in the sorted view has no sequence key";
+        return key;
+    }
+
+    private void assignNewSequenceKey(Person person) {
+        sequenceKeys.put(person, nextSequenceKey++);
+    }
+
+    /**
+     * Keeps the sequence keys in step with {@code change}.
+     */
+    private void updateSequenceKeys(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                renumberSequenceKeys();
+                continue;
+            }
+
+            List<? extends Person> removed = change.getRemoved();
+            List<? extends Person> added = change.getAddedSubList();
+            long[] replacedKeys = removed.stream().mapToLong(this::getSequenceKey).toArray();
+            removed.forEach(sequenceKeys::remove);
+
+            if (added.isEmpty()) {
+                continue;
+            }
+
+            if (removed.size() == added.size() || change.getTo() == persons.size()) {
+                // Persons replacing others in place keep their positions, and persons appended
+                // at the end of the list are given fresh keys, which preserves the source order.
+                for (int i = 0; i < added.size(); i++) {
+                    if (i < replacedKeys.length) {
+                        sequenceKeys.put(added.get(i), replacedKeys[i]);
+                    } else {
+                        assignNewSequenceKey(added.get(i));
+                    }
+                }
+            } else {
+                renumberSequenceKeys();
+            }
+        }
+    }
+
+    /**
+     * Reassigns sequence keys to every person in the source list according to its current position.
+     * The relative order of persons that already had keys is preserved.
+     */
+    private void renumberSequenceKeys() {
+        persons.forEach(this::assignNewSequenceKey);
+    }
+
+    /**
+     * A snapshot of the diagnostics of a {@code PersonList}.
+     * Guarantees: immutable.
+     */
+    public static class Diagnostics {
+        private final int size;
+        private final int displayedSize;
+        private final long accessCount;
+        private final long filterUpdateCount;
+        private final long lastFilterUpdateNanos;
+        private final long totalFilterUpdateNanos;
+        private final long maxFilterUpdateNanos;
+
+        /**
+         * Creates a snapshot with the given counts and timings.
+         */
+        private Diagnostics(int size, int displayedSize, long accessCount, long filterUpdateCount,
+                long lastFilterUpdateNanos, long totalFilterUpdateNanos, long maxFilterUpdateNanos) {
+            this.size = size;
+            this.displayedSize = displayedSize;
+            this.accessCount = accessCount;
+            this.filterUpdateCount = filterUpdateCount;
+            this.lastFilterUpdateNanos = lastFilterUpdateNanos;
+            this.totalFilterUpdateNanos = totalFilterUpdateNanos;
+            this.maxFilterUpdateNanos = maxFilterUpdateNanos;
+        }
+
+        /**
+         * Returns the number of persons in the list, whether or not they pass the filter.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the number of persons that pass the filter.
+         */
+        public int getDisplayedSize() {
+            return displayedSize;
+        }
+
+        /**
+         * Returns the number of times the sorted and filtered view of the list was retrieved.
+         */
+        public long getAccessCount() {
+            return accessCount;
+        }
+
+        public long getFilterUpdateCount() {
+            return filterUpdateCount;
+        }
+
+        /**
+         * Returns the time taken by the latest filter update, which tests every person in the list against the
+         * new filter.
+         */
+        public long getLastFilterUpdateNanos() {
+            return lastFilterUpdateNanos;
+        }
+
+        public long getTotalFilterUpdateNanos() {
+            return totalFilterUpdateNanos;
+        }
+
+        public long getMaxFilterUpdateNanos() {
+            return maxFilterUpdateNanos;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("size", size)
+                    .add("displayedSize", displayedSize)
+                    .add("accessCount", accessCount)
+                    .add("filterUpdateCount", filterUpdateCount)
+                    .add("lastFilterUpdateNanos", lastFilterUpdateNanos)
+                    .add("totalFilterUpdateNanos", totalFilterUpdateNanos)
+                    .add("maxFilterUpdateNanos", maxFilterUpdateNanos)
+                    .toString();
+        }
     }
 
     @Override
@@ -66,7 +267,7 @@ public class PersonList {
         }
 
         PersonList otherPersonList = (PersonList) other;
-        return getPersonList().equals(otherPersonList.getPersonList());
+        return sortedPersons.equals(otherPersonList.sortedPersons);
     }
 
 
@@ -1,10 +1,12 @@
 package seedu.address.logic;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.meeting.PersonMeeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,6 +23,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_DATETIME_FORMAT = "Invalid datetime format. "
             + "Accepted formats: dd/MM/yyyy HH[:]mm, yyyy-MM-dd HH[:]mm";
     public static final String MESSAGE_INVALID_MEETING_DISPLAYED_INDEX = "The meeting index provided is invalid";
+    public static final String MESSAGE_CLASHING_MEETINGS = "Note: this meeting clashes with %1$d other meeting(s):";
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
@@ -50,4 +54,26 @@ public class Messages {
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code personMeeting} for display to the user.
+     */
+    public static String format(PersonMeeting personMeeting) {
+        return personMeeting.getPerson().getName() + ": " + personMeeting.getMeeting();
+    }
+
+    /**
+     * Formats the {@code clashingMeetings} of a meeting as a note to the user, one meeting per line,
+     * or returns an empty string if there are none.
+     */
+    public static String formatClashingMeetings(List<PersonMeeting> clashingMeetings) {
+        if (clashingMeetings.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder("\n")
+                .append(String.format(MESSAGE_CLASHING_MEETINGS, clashingMeetings.size()));
+        clashingMeetings.forEach(clashingMeeting -> builder.append("\n").append(format(clashingMeeting)));
+        return builder.toString();
+    }
+
 }
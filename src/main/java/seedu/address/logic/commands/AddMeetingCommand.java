@@ -1,8 +1,12 @@
 package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
@@ -15,6 +19,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.PersonMeeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -30,12 +35,24 @@ public class AddMeetingCommand extends Command {
             + PREFIX_PERSON_INDEX + "INDEX (must be a positive integer) "
             + PREFIX_MEETING + "MEETING "
             + PREFIX_VENUE + "VENUE "
-            + PREFIX_WHEN + "WHEN\n"
+            + PREFIX_WHEN + "WHEN "
+            + "[" + PREFIX_DURATION + "DURATION_IN_MINUTES] "
+            + "[" + PREFIX_RECURRENCE + "daily|weekly|monthly (" + PREFIX_COUNT + "OCCURRENCES | "
+            + PREFIX_UNTIL + "WHEN)]\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PERSON_INDEX + "1 "
             + PREFIX_MEETING + "Financial advice sharing "
             + PREFIX_VENUE + "AMK Hub "
-            + PREFIX_WHEN + "2025-11-01 1600";
+            + PREFIX_WHEN + "2025-11-01 1600 "
+            + PREFIX_DURATION + "90\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_PERSON_INDEX + "1 "
+            + PREFIX_MEETING + "Weekly check in "
+            + PREFIX_VENUE + "Online "
+            + PREFIX_WHEN + "2025-11-03 0900 "
+            + PREFIX_DURATION + "30 "
+            + PREFIX_RECURRENCE + "weekly "
+            + PREFIX_COUNT + "10";
 
     public static final String MESSAGE_ADD_MEETING_SUCCESS = "Added meeting to Person: %1$s";
     public static final String MESSAGE_ADD_MEETING_FAILURE = "Failed to add meeting to Person: %1$s";
@@ -79,6 +96,7 @@ public class AddMeetingCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
+        List<PersonMeeting> clashingMeetings = model.getClashingMeetings(meeting);
         List<Meeting> editedMeetings = new ArrayList<>(personToEdit.getMeetings());
         editedMeetings.add(meeting);
         Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
@@ -89,7 +107,8 @@ public class AddMeetingCommand extends Command {
         model.setPerson(personToEdit, editedPerson);
         model.updatePersonListFilter(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(generateSuccessMessage(editedPerson));
+        return new CommandResult(generateSuccessMessage(editedPerson)
+                + Messages.formatClashingMeetings(clashingMeetings));
     }
 
     private String generateSuccessMessage(Person personToEdit) {
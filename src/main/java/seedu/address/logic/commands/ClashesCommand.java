@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.MeetingClash;
+
+/**
+ * Lists every pair of meetings in the address book that overlap in time.
+ */
+public class ClashesCommand extends Command {
+
+    public static final String COMMAND_WORD = "clashes";
+
+    public static final String MESSAGE_CLASHES_LISTED = "%1$d pair(s) of clashing meetings found";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<MeetingClash> clashes = model.getMeetingClashes();
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_CLASHES_LISTED, clashes.size()));
+        for (int i = 0; i < clashes.size(); i++) {
+            MeetingClash clash = clashes.get(i);
+            message.append('\n').append(i + 1).append(". ")
+                    .append(Messages.format(clash.getFirst()))
+                    .append(" <-> ")
+                    .append(Messages.format(clash.getSecond()));
+        }
+        return new CommandResult(message.toString());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
@@ -8,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -19,7 +21,10 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.PersonMeeting;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 import seedu.address.model.person.Person;
@@ -37,7 +42,8 @@ public class EditMeetingCommand extends Command {
             + PREFIX_MEETING_INDEX + "MEETING_INDEX (must be a positive integer) "
             + "[" + PREFIX_MEETING + "MEETING] "
             + "[" + PREFIX_VENUE + "VENUE] "
-            + "[" + PREFIX_WHEN + "WHEN]\n"
+            + "[" + PREFIX_WHEN + "WHEN] "
+            + "[" + PREFIX_DURATION + "DURATION_IN_MINUTES]\n"
             + "Example: " + COMMAND_WORD + PREFIX_PERSON_INDEX + "1 "
             + PREFIX_MEETING_INDEX + "2 "
             + PREFIX_VENUE + "Starbucks at J8 "
@@ -48,7 +54,8 @@ public class EditMeetingCommand extends Command {
             + PREFIX_MEETING_INDEX + "MEETING_INDEX (must be a positive integer) "
             + "[" + PREFIX_MEETING + "MEETING] "
             + "[" + PREFIX_VENUE + "VENUE] "
-            + "[" + PREFIX_WHEN + "WHEN]\n";
+            + "[" + PREFIX_WHEN + "WHEN] "
+            + "[" + PREFIX_DURATION + "DURATION_IN_MINUTES]\n";
 
     public static final String MESSAGE_EDIT_MEETING_SUCCESS = "Edited Meeting: %1$s";
     public static final String MESSAGE_MEETING_NOT_EDITED = "At least one field to edit must be provided.";
@@ -94,35 +101,40 @@ public class EditMeetingCommand extends Command {
 
         Meeting meetingToEdit = lastMeetingsList.get(meetingIndex.getZeroBased());
         Meeting editedMeeting = createEditedMeeting(meetingToEdit, editMeetingDescriptor);
+        List<PersonMeeting> clashingMeetings = new ArrayList<>(model.getClashingMeetings(editedMeeting));
+        clashingMeetings.removeIf(clashingMeeting -> clashingMeeting.getPerson() == personToEdit
+                && meetingToEdit.hasOccurrence(clashingMeeting.getMeeting()));
 
         model.editMeeting(personToEdit, meetingIndex.getZeroBased(), editedMeeting);
 
-        // Creates a new Person object with the updated meetings list
-        Person editedPerson = new Person(personToEdit.getName(), personToEdit.getPhone(),
-                personToEdit.getOtherPhones(), personToEdit.getEmail(),
-                personToEdit.getAddress(), personToEdit.getTags(),
-                personToEdit.getMeetings(), personToEdit.getFlagStatus());
-
-        // Replaces the old person with the new person in the model to refresh the GUI
-        model.setPerson(personToEdit, editedPerson);
-
         model.updatePersonListFilter(PREDICATE_SHOW_ALL_PERSONS);
 
-        return new CommandResult(String.format(MESSAGE_EDIT_MEETING_SUCCESS, Messages.format(personToEdit)));
+        return new CommandResult(String.format(MESSAGE_EDIT_MEETING_SUCCESS, Messages.format(personToEdit))
+                + Messages.formatClashingMeetings(clashingMeetings));
     }
 
     /**
      * Creates and returns a {@code Meeting} with the details of {@code meetingToEdit}
      * edited with {@code editMeetingDescriptor}.
      */
-    private static Meeting createEditedMeeting(Meeting meetingToEdit, EditMeetingDescriptor editMeetingDescriptor) {
+    private static Meeting createEditedMeeting(Meeting meetingToEdit, EditMeetingDescriptor editMeetingDescriptor)
+            throws CommandException {
         assert meetingToEdit != null;
 
         MeetingName updatedMeetingName = editMeetingDescriptor.getMeetingName().orElse(meetingToEdit.getMeetingName());
         Venue updatedVenue = editMeetingDescriptor.getVenue().orElse(meetingToEdit.getVenue());
         When updatedWhen = editMeetingDescriptor.getWhen().orElse(meetingToEdit.getWhen());
+        MeetingDuration updatedDuration = editMeetingDescriptor.getDuration().orElse(meetingToEdit.getDuration());
 
-        return new Meeting(updatedMeetingName, updatedVenue, updatedWhen);
+        // A recurring meeting keeps repeating in the same way
+        if (meetingToEdit.getRecurrence().isEmpty()) {
+            return new Meeting(updatedMeetingName, updatedVenue, updatedWhen, updatedDuration);
+        }
+        Recurrence recurrence = meetingToEdit.getRecurrence().get();
+        if (!Meeting.isValidRecurrence(updatedWhen, recurrence)) {
+            throw new CommandException(Meeting.MESSAGE_RECURRENCE_CONSTRAINTS);
+        }
+        return new Meeting(updatedMeetingName, updatedVenue, updatedWhen, updatedDuration, recurrence);
     }
 
     @Override
@@ -149,6 +161,7 @@ public class EditMeetingCommand extends Command {
         private MeetingName meetingName;
         private Venue venue;
         private When when;
+        private MeetingDuration duration;
 
         public EditMeetingDescriptor() {}
 
@@ -160,13 +173,14 @@ public class EditMeetingCommand extends Command {
             setMeetingName(toCopy.meetingName);
             setVenue(toCopy.venue);
             setWhen(toCopy.when);
+            setDuration(toCopy.duration);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(meetingName, venue, when);
+            return CollectionUtil.isAnyNonNull(meetingName, venue, when, duration);
         }
 
         public void setMeetingName(MeetingName meetingName) {
@@ -193,6 +207,14 @@ public class EditMeetingCommand extends Command {
             return Optional.ofNullable(when);
         }
 
+        public void setDuration(MeetingDuration duration) {
+            this.duration = duration;
+        }
+
+        public Optional<MeetingDuration> getDuration() {
+            return Optional.ofNullable(duration);
+        }
+
         @Override
         public boolean equals(Object other) {
             if (other == this) {
@@ -207,7 +229,8 @@ public class EditMeetingCommand extends Command {
             EditMeetingDescriptor otherEditMeetingDescriptor = (EditMeetingDescriptor) other;
             return Objects.equals(meetingName, otherEditMeetingDescriptor.meetingName)
                     && Objects.equals(venue, otherEditMeetingDescriptor.venue)
-                    && Objects.equals(when, otherEditMeetingDescriptor.when);
+                    && Objects.equals(when, otherEditMeetingDescriptor.when)
+                    && Objects.equals(duration, otherEditMeetingDescriptor.duration);
         }
 
         @Override
@@ -216,6 +239,7 @@ public class EditMeetingCommand extends Command {
                     .add("meetingName", meetingName)
                     .add("venue", venue)
                     .add("when", when)
+                    .add("duration", duration)
                     .toString();
         }
     }
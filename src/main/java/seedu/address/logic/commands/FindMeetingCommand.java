@@ -2,6 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
@@ -21,6 +25,8 @@ public class FindMeetingCommand extends Command {
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " townhall meeting";
 
+    private static final Logger logger = LogsCenter.getLogger(FindMeetingCommand.class);
+
     private final MeetingNameContainsKeywordsPredicate predicate;
 
     public FindMeetingCommand(MeetingNameContainsKeywordsPredicate predicate) {
@@ -30,7 +36,8 @@ public class FindMeetingCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updatePersonListFilter(predicate);
+        model.updatePersonListFilterByMeetingName(predicate.getKeywords());
+        LogsCenter.log(logger, Level.FINE, "Meeting search for %s: %s", predicate, model.getPersonListDiagnostics());
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getPersonList().size()));
     }
@@ -0,0 +1,159 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.FreeSlotFinder;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.FreeSlot;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.When;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Finds the earliest slots of time in which none of a group of persons has a meeting.
+ */
+public class FreeSlotCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeslot";
+
+    public static final int MAX_SLOTS = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the earliest free slots, up to " + MAX_SLOTS
+            + ", of at least the given duration in which none of the persons identified by the index numbers used in"
+            + " the displayed person list, or none of the persons with the given tag, has a meeting.\n"
+            + "Parameters: (" + PREFIX_PERSON_INDEX + "INDEX... | " + PREFIX_TAG + "TAG) "
+            + PREFIX_FROM + "DATETIME " + PREFIX_TO + "DATETIME " + PREFIX_DURATION + "DURATION_IN_MINUTES\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PERSON_INDEX + "1 " + PREFIX_PERSON_INDEX + "3 "
+            + PREFIX_FROM + "2024-03-01 0900 " + PREFIX_TO + "2024-03-01 1800 " + PREFIX_DURATION + "60";
+
+    public static final String MESSAGE_FREE_SLOTS_FOUND =
+            "%1$d free slot(s) of at least %2$s for %3$d person(s) from %4$s to %5$s";
+    public static final String MESSAGE_INVALID_RANGE = "The start date and time must not be after the end";
+    public static final String MESSAGE_NO_PERSONS_WITH_TAG = "No persons are tagged %1$s";
+
+    private final List<Index> personIndices;
+    private final Tag tag;
+    private final When from;
+    private final When to;
+    private final MeetingDuration duration;
+
+    /**
+     * Creates a FreeSlotCommand to find free slots for the persons at {@code personIndices} of the displayed person
+     * list. {@code personIndices} must not be empty, and {@code from} must not be after {@code to}.
+     */
+    public FreeSlotCommand(List<Index> personIndices, When from, When to, MeetingDuration duration) {
+        this(List.copyOf(personIndices), null, from, to, duration);
+        checkArgument(!personIndices.isEmpty());
+    }
+
+    /**
+     * Creates a FreeSlotCommand to find free slots for every person in the address book with {@code tag}.
+     * {@code from} must not be after {@code to}.
+     */
+    public FreeSlotCommand(Tag tag, When from, When to, MeetingDuration duration) {
+        this(List.of(), requireNonNull(tag), from, to, duration);
+    }
+
+    private FreeSlotCommand(List<Index> personIndices, Tag tag, When from, When to, MeetingDuration duration) {
+        requireAllNonNull(from, to, duration);
+        checkArgument(!from.value.isAfter(to.value), MESSAGE_INVALID_RANGE);
+        this.personIndices = personIndices;
+        this.tag = tag;
+        this.from = from;
+        this.to = to;
+        this.duration = duration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Set<Person> persons = tag == null ? getPersonsAtIndices(model) : getPersonsWithTag(model);
+
+        List<FreeSlot> slots = FreeSlotFinder.findFreeSlots(persons, from.value, to.value, duration, MAX_SLOTS);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_FREE_SLOTS_FOUND, slots.size(), duration,
+                persons.size(), from, to));
+        for (int i = 0; i < slots.size(); i++) {
+            message.append('\n').append(i + 1).append(". ").append(slots.get(i).toDisplayString());
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private Set<Person> getPersonsAtIndices(Model model) throws CommandException {
+        List<Person> lastShownList = model.getPersonList();
+
+        Set<Person> persons = new LinkedHashSet<>();
+        for (Index personIndex : personIndices) {
+            if (personIndex.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            persons.add(lastShownList.get(personIndex.getZeroBased()));
+        }
+        return persons;
+    }
+
+    private Set<Person> getPersonsWithTag(Model model) throws CommandException {
+        Set<Person> persons = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getTags().contains(tag))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (persons.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_PERSONS_WITH_TAG, tag));
+        }
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotCommand)) {
+            return false;
+        }
+
+        FreeSlotCommand otherFreeSlotCommand = (FreeSlotCommand) other;
+        return personIndices.equals(otherFreeSlotCommand.personIndices)
+                && Objects.equals(tag, otherFreeSlotCommand.tag)
+                && from.equals(otherFreeSlotCommand.from)
+                && to.equals(otherFreeSlotCommand.to)
+                && duration.equals(otherFreeSlotCommand.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        // Index does not override hashCode, so the indices are hashed by their values
+        List<Integer> zeroBasedIndices = personIndices.stream().map(Index::getZeroBased).toList();
+        return Objects.hash(zeroBasedIndices, tag, from, to, duration);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("personIndices", personIndices)
+                .add("tag", tag)
+                .add("from", from)
+                .add("to", to)
+                .add("duration", duration)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.meeting.PersonMeeting;
+import seedu.address.model.meeting.When;
+
+/**
+ * Lists the meetings of all persons in the address book within a range of dates and times, in order of time.
+ */
+public class ListMeetingsCommand extends Command {
+
+    public static final String COMMAND_WORD = "meetings";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the meetings of all persons from the first "
+            + "date and time to the second, inclusive, in order of time.\n"
+            + "Parameters: " + PREFIX_FROM + "DATETIME " + PREFIX_TO + "DATETIME\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2024-03-01 0900 " + PREFIX_TO + "2024-03-01 1800";
+
+    public static final String MESSAGE_MEETINGS_LISTED = "%1$d meetings from %2$s to %3$s";
+    public static final String MESSAGE_INVALID_RANGE = "The start date and time must not be after the end";
+
+    private final When from;
+    private final When to;
+
+    /**
+     * Creates a ListMeetingsCommand to list the meetings from {@code from} to {@code to}, both inclusive.
+     * {@code from} must not be after {@code to}.
+     */
+    public ListMeetingsCommand(When from, When to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.value.isAfter(to.value), MESSAGE_INVALID_RANGE);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<PersonMeeting> meetings = model.getMeetingsBetween(from.value, to.value);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_MEETINGS_LISTED, meetings.size(), from, to));
+        for (int i = 0; i < meetings.size(); i++) {
+            message.append('\n').append(i + 1).append(". ").append(Messages.format(meetings.get(i)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListMeetingsCommand)) {
+            return false;
+        }
+
+        ListMeetingsCommand otherListMeetingsCommand = (ListMeetingsCommand) other;
+        return from.equals(otherListMeetingsCommand.from)
+                && to.equals(otherListMeetingsCommand.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -2,8 +2,12 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
 
@@ -14,7 +18,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AddMeetingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 
@@ -30,7 +36,7 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
     public AddMeetingCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PERSON_INDEX, PREFIX_MEETING,
-                PREFIX_VENUE, PREFIX_WHEN);
+                PREFIX_VENUE, PREFIX_WHEN, PREFIX_DURATION, PREFIX_RECURRENCE, PREFIX_COUNT, PREFIX_UNTIL);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PERSON_INDEX, PREFIX_MEETING, PREFIX_VENUE, PREFIX_WHEN)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE));
@@ -52,8 +58,26 @@ public class AddMeetingCommandParser implements Parser<AddMeetingCommand> {
         MeetingName meetingName = ParserUtil.parseMeetingName(argMultimap.getValue(PREFIX_MEETING).get());
         Venue venue = ParserUtil.parseVenue(argMultimap.getValue(PREFIX_VENUE).get());
         When when = ParserUtil.parseWhen(argMultimap.getValue(PREFIX_WHEN).get());
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DURATION, PREFIX_RECURRENCE, PREFIX_COUNT, PREFIX_UNTIL);
+        MeetingDuration duration = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                ? ParserUtil.parseMeetingDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                : MeetingDuration.DEFAULT;
 
-        Meeting meeting = new Meeting(meetingName, venue, when);
+        if (argMultimap.getValue(PREFIX_RECURRENCE).isEmpty()) {
+            // The end of a recurrence means nothing without one
+            if (argMultimap.getValue(PREFIX_COUNT).isPresent() || argMultimap.getValue(PREFIX_UNTIL).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AddMeetingCommand.MESSAGE_USAGE));
+            }
+            return new AddMeetingCommand(index, new Meeting(meetingName, venue, when, duration));
+        }
+
+        Recurrence recurrence = ParserUtil.parseRecurrence(argMultimap.getValue(PREFIX_RECURRENCE).get(),
+                argMultimap.getValue(PREFIX_COUNT), argMultimap.getValue(PREFIX_UNTIL));
+        if (!Meeting.isValidRecurrence(when, recurrence)) {
+            throw new ParseException(Meeting.MESSAGE_RECURRENCE_CONSTRAINTS);
+        }
+        Meeting meeting = new Meeting(meetingName, venue, when, duration, recurrence);
 
         return new AddMeetingCommand(index, meeting);
     }
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,6 +11,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMeetingCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -20,8 +22,10 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindMeetingCommand;
 import seedu.address.logic.commands.FlagCommand;
+import seedu.address.logic.commands.FreeSlotCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListMeetingsCommand;
 import seedu.address.logic.commands.UnflagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -55,7 +59,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        LogsCenter.log(logger, Level.FINE, "Command word: %s; Arguments: %s", commandWord, arguments);
 
         switch (commandWord) {
 
@@ -101,8 +105,17 @@ public class AddressBookParser {
         case FindMeetingCommand.COMMAND_WORD:
             return new FindMeetingCommandParser().parse(arguments);
 
+        case ListMeetingsCommand.COMMAND_WORD:
+            return new ListMeetingsCommandParser().parse(arguments);
+
+        case ClashesCommand.COMMAND_WORD:
+            return new ClashesCommand();
+
+        case FreeSlotCommand.COMMAND_WORD:
+            return new FreeSlotCommandParser().parse(arguments);
+
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            LogsCenter.log(logger, Level.FINER, "This user input caused a ParseException: %s", userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
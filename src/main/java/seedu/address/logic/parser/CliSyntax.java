@@ -15,6 +15,12 @@ public class CliSyntax {
     public static final Prefix PREFIX_MEETING = new Prefix("m=");
     public static final Prefix PREFIX_VENUE = new Prefix("v=");
     public static final Prefix PREFIX_WHEN = new Prefix("w=");
+    public static final Prefix PREFIX_DURATION = new Prefix("d=");
     public static final Prefix PREFIX_PERSON_INDEX = new Prefix("p=");
     public static final Prefix PREFIX_MEETING_INDEX = new Prefix("i=");
+    public static final Prefix PREFIX_FROM = new Prefix("from=");
+    public static final Prefix PREFIX_TO = new Prefix("to=");
+    public static final Prefix PREFIX_RECURRENCE = new Prefix("r=");
+    public static final Prefix PREFIX_COUNT = new Prefix("count=");
+    public static final Prefix PREFIX_UNTIL = new Prefix("until=");
 }
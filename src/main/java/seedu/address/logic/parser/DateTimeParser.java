@@ -4,10 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_DATETIME_FORMAT;
 
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
-import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -23,20 +24,18 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * a {@link ParseException} is thrown.
  */
 public class DateTimeParser {
-    /**
-     * List of accepted datetime formatters
+    /*
+     * Accepted datetime formats, as DateTimeFormatter patterns with strict resolving:
+     * dd-MM-uuuu, uuuu-MM-dd, uuuu/MM/dd or dd/MM/uuuu, followed by a space and HH:mm or HHmm.
+     * As with the 'uuuu' pattern, the year is 4 digits, a minus sign followed by at least 4 digits
+     * that are not all zero, or a plus sign followed by more than 4 digits.
      */
-    private static final List<DateTimeFormatter> ALLOWED_FORMATTERS = List.of(
-            DateTimeFormatter.ofPattern("dd-MM-uuuu HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu-MM-dd HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("uuuu/MM/dd HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("dd/MM/uuuu HH:mm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("dd/MM/uuuu HHmm").withResolverStyle(ResolverStyle.STRICT),
-            DateTimeFormatter.ofPattern("dd-MM-uuuu HH:mm").withResolverStyle(ResolverStyle.STRICT)
-    );
+    private static final int MIN_YEAR_DIGITS = 4;
+    private static final int MAX_YEAR_DIGITS = 19;
+    private static final long INVALID = Long.MIN_VALUE;
+
     private static final String OUTPUT_FORMAT = "MMM dd yyyy HH:mm";
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern(OUTPUT_FORMAT);
     private static final String LOGGER_INVALID_FORMAT = "Invalid date time format: %1$s";
 
     private static final Logger logger = LogsCenter.getLogger(DateTimeParser.class);
@@ -49,15 +48,141 @@ public class DateTimeParser {
      */
     public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
         requireNonNull(dateTime);
-        for (DateTimeFormatter formatter : ALLOWED_FORMATTERS) {
-            try {
-                return LocalDateTime.parse(dateTime, formatter);
-            } catch (DateTimeParseException ignored) {
-                // This exception is expected and can be safely ignored
+        Optional<LocalDateTime> result = tryParseDateTime(dateTime);
+        if (result.isEmpty()) {
+            LogsCenter.log(logger, Level.FINE, LOGGER_INVALID_FORMAT, dateTime);
+            throw new ParseException(MESSAGE_INVALID_DATETIME_FORMAT);
+        }
+        return result.get();
+    }
+
+    /**
+     * Parses a {@code String} representation of a datetime into a {@link LocalDateTime} object,
+     * or returns an empty {@code Optional} if it is not in any of the accepted formats.
+     * <p></p>
+     * The format is picked from the positions of the separators, then the digits are read directly,
+     * so no exceptions are thrown for datetimes that do not match.
+     * @param dateTime the input string to parse (non-null)
+     */
+    public static Optional<LocalDateTime> tryParseDateTime(String dateTime) {
+        requireNonNull(dateTime);
+        int space = dateTime.indexOf(' ');
+        if (space < 0) {
+            return Optional.empty();
+        }
+
+        long minuteOfDay = parseTime(dateTime, space + 1);
+        if (minuteOfDay == INVALID) {
+            return Optional.empty();
+        }
+
+        int year;
+        int month;
+        int day;
+        char separator = space > 2 ? dateTime.charAt(2) : 0;
+        if ((separator == '-' || separator == '/') && space > 6 && dateTime.charAt(5) == separator) {
+            // dd-MM-uuuu or dd/MM/uuuu
+            day = parseTwoDigits(dateTime, 0);
+            month = parseTwoDigits(dateTime, 3);
+            long parsedYear = parseYear(dateTime, 6, space);
+            if (parsedYear == INVALID) {
+                return Optional.empty();
+            }
+            year = (int) parsedYear;
+        } else {
+            // uuuu-MM-dd or uuuu/MM/dd
+            if (space < 6) {
+                return Optional.empty();
+            }
+            separator = dateTime.charAt(space - 3);
+            if ((separator != '-' && separator != '/') || dateTime.charAt(space - 6) != separator) {
+                return Optional.empty();
+            }
+            long parsedYear = parseYear(dateTime, 0, space - 6);
+            if (parsedYear == INVALID) {
+                return Optional.empty();
+            }
+            year = (int) parsedYear;
+            month = parseTwoDigits(dateTime, space - 5);
+            day = parseTwoDigits(dateTime, space - 2);
+        }
+
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.of(year, month, day, (int) minuteOfDay / 60, (int) minuteOfDay % 60));
+    }
+
+    /**
+     * Returns the minute of the day of the time in {@code text} from {@code start} to its end,
+     * in the format HH:mm or HHmm, or {@link #INVALID} if it is not a valid time in either format.
+     */
+    private static long parseTime(String text, int start) {
+        int length = text.length() - start;
+        int hour = parseTwoDigits(text, start);
+        int minute;
+        if (length == 5 && text.charAt(start + 2) == ':') {
+            minute = parseTwoDigits(text, start + 3);
+        } else if (length == 4) {
+            minute = parseTwoDigits(text, start + 2);
+        } else {
+            return INVALID;
+        }
+
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
+        }
+        return hour * 60L + minute;
+    }
+
+    /**
+     * Returns the year in {@code text} from {@code start} to {@code end},
+     * or {@link #INVALID} if it is not a valid year.
+     */
+    private static long parseYear(String text, int start, int end) {
+        char sign = start < end ? text.charAt(start) : 0;
+        boolean isSigned = sign == '+' || sign == '-';
+        int digitsStart = isSigned ? start + 1 : start;
+        int digitCount = end - digitsStart;
+
+        boolean isDigitCountValid = sign == '+'
+                ? digitCount > MIN_YEAR_DIGITS && digitCount <= MAX_YEAR_DIGITS
+                : sign == '-'
+                ? digitCount >= MIN_YEAR_DIGITS && digitCount <= MAX_YEAR_DIGITS
+                : digitCount == MIN_YEAR_DIGITS;
+        if (!isDigitCountValid) {
+            return INVALID;
+        }
+
+        long year = 0;
+        for (int i = digitsStart; i < end; i++) {
+            int digit = toDigit(text.charAt(i));
+            if (digit < 0 || year > (Year.MAX_VALUE - digit) / 10) {
+                return INVALID;
             }
+            year = year * 10 + digit;
+        }
+        if (sign == '-') {
+            // A minus sign is not accepted on year zero
+            return year == 0 ? INVALID : -year;
+        }
+        return year;
+    }
+
+    /**
+     * Returns the value of the two digits in {@code text} at {@code start}, or -1 if they are not both digits.
+     */
+    private static int parseTwoDigits(String text, int start) {
+        if (start + 2 > text.length()) {
+            return -1;
         }
-        logger.info(String.format(LOGGER_INVALID_FORMAT, dateTime));
-        throw new ParseException(MESSAGE_INVALID_DATETIME_FORMAT);
+        int tens = toDigit(text.charAt(start));
+        int ones = toDigit(text.charAt(start + 1));
+        return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+    }
+
+    private static int toDigit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
     }
 
     /**
@@ -67,6 +192,6 @@ public class DateTimeParser {
      */
     public static String format(LocalDateTime dateTime) {
         requireNonNull(dateTime);
-        return dateTime.format(DateTimeFormatter.ofPattern(OUTPUT_FORMAT));
+        return OUTPUT_FORMATTER.format(dateTime);
     }
 }
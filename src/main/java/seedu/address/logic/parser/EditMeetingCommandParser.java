@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
@@ -35,7 +36,7 @@ public class EditMeetingCommandParser implements Parser<EditMeetingCommand> {
 
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_PERSON_INDEX, PREFIX_MEETING_INDEX, PREFIX_MEETING,
-                        PREFIX_VENUE, PREFIX_WHEN);
+                        PREFIX_VENUE, PREFIX_WHEN, PREFIX_DURATION);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_PERSON_INDEX, PREFIX_MEETING_INDEX)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditMeetingCommand.MESSAGE_USAGE));
@@ -56,7 +57,7 @@ public class EditMeetingCommandParser implements Parser<EditMeetingCommand> {
         }
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_PERSON_INDEX, PREFIX_MEETING_INDEX, PREFIX_MEETING,
-                PREFIX_VENUE, PREFIX_WHEN);
+                PREFIX_VENUE, PREFIX_WHEN, PREFIX_DURATION);
 
         EditMeetingCommand.EditMeetingDescriptor editMeetingDescriptor = new EditMeetingCommand.EditMeetingDescriptor();
 
@@ -73,6 +74,11 @@ public class EditMeetingCommandParser implements Parser<EditMeetingCommand> {
             editMeetingDescriptor.setWhen(ParserUtil.parseWhen(argMultimap.getValue(PREFIX_WHEN).get()));
         }
 
+        if (argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            editMeetingDescriptor.setDuration(ParserUtil.parseMeetingDuration(
+                    argMultimap.getValue(PREFIX_DURATION).get()));
+        }
+
         if (!editMeetingDescriptor.isAnyFieldEdited()) {
             throw new ParseException(EditMeetingCommand.MESSAGE_MEETING_NOT_EDITED);
         }
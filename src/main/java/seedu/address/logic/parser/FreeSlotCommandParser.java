@@ -0,0 +1,77 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.FreeSlotCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.When;
+
+/**
+ * Parses input arguments and creates a new {@code FreeSlotCommand} object
+ */
+public class FreeSlotCommandParser implements Parser<FreeSlotCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code FreeSlotCommand}
+     * and returns a {@code FreeSlotCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_PERSON_INDEX, PREFIX_TAG,
+                PREFIX_FROM, PREFIX_TO, PREFIX_DURATION);
+
+        List<String> personIndexStrings = argMultimap.getAllValues(PREFIX_PERSON_INDEX);
+        boolean isTagPresent = argMultimap.getValue(PREFIX_TAG).isPresent();
+        // Exactly one of the person indices and the tag identifies the persons
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO, PREFIX_DURATION)
+                || personIndexStrings.isEmpty() == !isTagPresent
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG, PREFIX_FROM, PREFIX_TO, PREFIX_DURATION);
+        When from = ParserUtil.parseWhen(argMultimap.getValue(PREFIX_FROM).get());
+        When to = ParserUtil.parseWhen(argMultimap.getValue(PREFIX_TO).get());
+        MeetingDuration duration = ParserUtil.parseMeetingDuration(argMultimap.getValue(PREFIX_DURATION).get());
+
+        if (from.value.isAfter(to.value)) {
+            throw new ParseException(FreeSlotCommand.MESSAGE_INVALID_RANGE);
+        }
+
+        if (isTagPresent) {
+            return new FreeSlotCommand(ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get()), from, to,
+                    duration);
+        }
+
+        List<Index> personIndices = new ArrayList<>();
+        for (String personIndexString : personIndexStrings) {
+            try {
+                personIndices.add(ParserUtil.parseIndex(personIndexString));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE),
+                        pe);
+            }
+        }
+        return new FreeSlotCommand(personIndices, from, to, duration);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
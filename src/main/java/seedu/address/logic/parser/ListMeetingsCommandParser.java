@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.When;
+
+/**
+ * Parses input arguments and creates a new {@code ListMeetingsCommand} object
+ */
+public class ListMeetingsCommandParser implements Parser<ListMeetingsCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ListMeetingsCommand}
+     * and returns a {@code ListMeetingsCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListMeetingsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_FROM, PREFIX_TO) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListMeetingsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+        When from = ParserUtil.parseWhen(argMultimap.getValue(PREFIX_FROM).get());
+        When to = ParserUtil.parseWhen(argMultimap.getValue(PREFIX_TO).get());
+
+        if (from.value.isAfter(to.value)) {
+            throw new ParseException(ListMeetingsCommand.MESSAGE_INVALID_RANGE);
+        }
+
+        return new ListMeetingsCommand(from, to);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
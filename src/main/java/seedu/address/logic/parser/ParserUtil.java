@@ -1,19 +1,24 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 import seedu.address.model.person.Address;
@@ -51,10 +56,20 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
+        switch (Name.validate(trimmedName)) {
+        case VALID:
+            return new Name(trimmedName);
+        case BLANK:
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS_NO_BLANK_NAME);
+        case NO_ALPHANUMERIC:
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS_AT_LEAST_ONE_ALPHANUMERIC);
+        case INVALID_START_END:
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS_INVALID_START_END);
+        case CONSECUTIVE_SPECIAL_CHARACTERS:
+            throw new ParseException(Name.MESSAGE_CONSTRAINTS_NO_CONSECUTIVE_SPECIAL_CHAR);
+        default:
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
     }
 
     /**
@@ -140,9 +155,8 @@ public class ParserUtil {
 
         assert !parametersAndLabels.isEmpty() : "Issue with extractParametersAndLabels: the list returned is empty";
 
-        String loggerMessage = String.format("Successfully extracted %ss and labels of size: %d.", parameterName,
+        LogsCenter.log(logger, Level.FINE, "Successfully extracted %ss and labels of size: %d.", parameterName,
                 parametersAndLabels.size());
-        logger.info(loggerMessage);
 
         return parametersAndLabels;
     }
@@ -391,4 +405,47 @@ public class ParserUtil {
         }
         return new When(trimmedWhen);
     }
+
+    /**
+     * Parses a {@code String duration} into a {@code MeetingDuration}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is invalid.
+     */
+    public static MeetingDuration parseMeetingDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!MeetingDuration.isValidDuration(trimmedDuration)) {
+            throw new ParseException(MeetingDuration.MESSAGE_CONSTRAINTS);
+        }
+        return new MeetingDuration(trimmedDuration);
+    }
+
+    /**
+     * Parses a {@code String frequency} and either a {@code String count} of occurrences or a {@code String until}
+     * date and time into a {@code Recurrence}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if any of the given values is invalid, or not exactly one of {@code count} and
+     *     {@code until} is present.
+     */
+    public static Recurrence parseRecurrence(String frequency, Optional<String> count, Optional<String> until)
+            throws ParseException {
+        requireAllNonNull(frequency, count, until);
+        Optional<Recurrence.Frequency> parsedFrequency = Recurrence.parseFrequency(frequency.trim());
+        if (parsedFrequency.isEmpty()) {
+            throw new ParseException(Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+        }
+        if (count.isPresent() == until.isPresent()) {
+            throw new ParseException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+
+        if (until.isPresent()) {
+            return new Recurrence(parsedFrequency.get(), parseWhen(until.get()).getWhen());
+        }
+        String trimmedCount = count.get().trim();
+        if (!Recurrence.isValidCount(trimmedCount)) {
+            throw new ParseException(Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        }
+        return new Recurrence(parsedFrequency.get(), Integer.parseInt(trimmedCount));
+    }
 }
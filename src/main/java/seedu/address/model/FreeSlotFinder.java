@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.address.model.meeting.FreeSlot;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds the spans of time in which none of a group of persons has a meeting.
+ * <p>
+ * Each person's meetings within the window, including the occurrences of recurring meetings, are sorted into a
+ * timeline, and the timelines are merged in order of start with a heap holding the next meeting of each person,
+ * tracking the time until which someone is busy. A free slot is every gap between that time and the start of the
+ * next meeting. Finding the earliest slots stops as soon as enough have been found, so this takes
+ * O(m log m + n log k) time for m meetings in the window across k persons, of which n are merged before the last
+ * slot is found.
+ */
+public class FreeSlotFinder {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the window must not be after its end";
+
+    private FreeSlotFinder() {}
+
+    /**
+     * Returns the earliest free slots, at most {@code limit} of them, from {@code from} to {@code to} in which
+     * none of {@code persons} has a meeting, in order of time. Each slot is as long as possible, and at least
+     * {@code duration} long. A meeting that ends exactly when a slot starts, or starts exactly when it ends,
+     * does not take up any of it.
+     *
+     * @throws IllegalArgumentException if {@code from} is after {@code to}, or {@code limit} is negative.
+     */
+    public static List<FreeSlot> findFreeSlots(Collection<Person> persons, LocalDateTime from, LocalDateTime to,
+            MeetingDuration duration, int limit) {
+        requireAllNonNull(persons, from, to, duration);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_RANGE);
+        checkArgument(limit >= 0);
+
+        PriorityQueue<Timeline> timelines = new PriorityQueue<>(Comparator.comparing(Timeline::peekStart));
+        for (Person person : persons) {
+            Timeline timeline = Timeline.of(person, from, to);
+            if (timeline.hasNext()) {
+                timelines.add(timeline);
+            }
+        }
+
+        List<FreeSlot> slots = new ArrayList<>();
+        LocalDateTime busyUntil = from;
+        while (!timelines.isEmpty() && slots.size() < limit) {
+            Timeline timeline = timelines.poll();
+            Meeting meeting = timeline.next();
+            if (timeline.hasNext()) {
+                timelines.add(timeline);
+            }
+
+            addIfLongEnough(slots, busyUntil, meeting.getDateTime(), duration);
+            if (meeting.getEndDateTime().isAfter(busyUntil)) {
+                busyUntil = meeting.getEndDateTime();
+            }
+        }
+        if (slots.size() < limit) {
+            addIfLongEnough(slots, busyUntil, to, duration);
+        }
+        return slots;
+    }
+
+    private static void addIfLongEnough(List<FreeSlot> slots, LocalDateTime start, LocalDateTime end,
+            MeetingDuration duration) {
+        if (!start.plusMinutes(duration.minutes).isAfter(end)) {
+            slots.add(new FreeSlot(start, end));
+        }
+    }
+
+    /**
+     * The meetings of a person that overlap a window of time, in order of their start.
+     */
+    private static class Timeline {
+        private final Meeting[] meetings;
+        private int position = 0;
+
+        private Timeline(Meeting[] meetings) {
+            this.meetings = meetings;
+        }
+
+        /**
+         * Creates the timeline of {@code person} from {@code from} to {@code to}, in which each recurring meeting
+         * is expanded into only its occurrences within the window.
+         */
+        static Timeline of(Person person, LocalDateTime from, LocalDateTime to) {
+            List<Meeting> meetings = new ArrayList<>();
+            for (Meeting meeting : person.getMeetings()) {
+                Iterator<Meeting> occurrences = meeting.getOccurrencesEndingAfter(from);
+                while (occurrences.hasNext()) {
+                    Meeting occurrence = occurrences.next();
+                    if (!occurrence.getDateTime().isBefore(to)) {
+                        break;
+                    }
+                    meetings.add(occurrence);
+                }
+            }
+            meetings.sort(Comparator.comparing(Meeting::getDateTime));
+            return new Timeline(meetings.toArray(Meeting[]::new));
+        }
+
+        boolean hasNext() {
+            return position < meetings.length;
+        }
+
+        LocalDateTime peekStart() {
+            return meetings[position].getDateTime();
+        }
+
+        Meeting next() {
+            return meetings[position++];
+        }
+    }
+
+}
@@ -0,0 +1,271 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import seedu.address.model.meeting.PersonMeeting;
+
+/**
+ * An interval tree of meetings, each spanning from its start to its end, exclusive, unless it is inserted with a span
+ * of its own.
+ * <p>
+ * The tree is a treap: a binary search tree ordered by start, and among meetings with the same start, by the order
+ * they were inserted, which is kept balanced with high probability by also keeping the nodes in heap order of a
+ * random priority. Each node also records the latest end of all meetings in its subtree, so searches for the
+ * meetings overlapping a span of time can skip every subtree that ends before the span starts.
+ * Inserting and removing a meeting takes time logarithmic in the number of meetings.
+ */
+public class MeetingIntervalTree {
+
+    // A fixed seed keeps the shape of the tree, and so any performance problem, reproducible.
+    private final SplittableRandom random = new SplittableRandom(0x5EEDL);
+    private Entry root;
+    private long nextSequence = 0;
+    private int size = 0;
+
+    /**
+     * A meeting in the tree, which is used to remove it again.
+     */
+    public static final class Entry {
+        private final PersonMeeting personMeeting;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Entry left;
+        private Entry right;
+        private boolean isInTree = true;
+
+        private Entry(PersonMeeting personMeeting, LocalDateTime start, LocalDateTime end, long sequence,
+                int priority) {
+            this.personMeeting = personMeeting;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        public PersonMeeting getPersonMeeting() {
+            return personMeeting;
+        }
+
+        private boolean isBefore(Entry other) {
+            int startComparison = start.compareTo(other.start);
+            return startComparison < 0 || startComparison == 0 && sequence < other.sequence;
+        }
+    }
+
+    /**
+     * Inserts {@code personMeeting}, returning the entry with which to remove it.
+     */
+    public Entry insert(PersonMeeting personMeeting) {
+        requireNonNull(personMeeting);
+        return insert(personMeeting, personMeeting.getMeeting().getDateTime(),
+                personMeeting.getMeeting().getEndDateTime());
+    }
+
+    /**
+     * Inserts {@code personMeeting} as spanning from {@code start} to {@code end}, exclusive, rather than the span
+     * of the meeting itself, returning the entry with which to remove it.
+     */
+    public Entry insert(PersonMeeting personMeeting, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(personMeeting, start, end);
+
+        Entry entry = new Entry(personMeeting, start, end, nextSequence++, random.nextInt());
+        root = insertInto(root, entry);
+        size++;
+        return entry;
+    }
+
+    /**
+     * Removes {@code entry} from the tree. Does nothing if it has already been removed.
+     */
+    public void remove(Entry entry) {
+        requireNonNull(entry);
+
+        if (!entry.isInTree) {
+            return;
+        }
+        root = removeFrom(root, entry);
+        entry.isInTree = false;
+        entry.left = null;
+        entry.right = null;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns all meetings in order of their start.
+     */
+    public List<PersonMeeting> toList() {
+        List<PersonMeeting> meetings = new ArrayList<>(size);
+        collectAll(root, meetings);
+        return meetings;
+    }
+
+    /**
+     * Returns the meetings that start from {@code from} to {@code to}, both inclusive, in order of their start.
+     */
+    public List<PersonMeeting> getStartingBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+
+        List<PersonMeeting> meetings = new ArrayList<>();
+        collectStartingBetween(root, from, to, meetings);
+        return meetings;
+    }
+
+    /**
+     * Returns the meetings that overlap the span from {@code start} to {@code end}, exclusive, in order of their
+     * start. A meeting that ends exactly at {@code start}, or starts exactly at {@code end}, does not overlap it.
+     */
+    public List<PersonMeeting> getOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+
+        List<PersonMeeting> meetings = new ArrayList<>();
+        collectOverlapping(root, start, end, meetings);
+        return meetings;
+    }
+
+    private static Entry insertInto(Entry node, Entry entry) {
+        if (node == null) {
+            return entry;
+        }
+
+        if (entry.isBefore(node)) {
+            node.left = insertInto(node.left, entry);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insertInto(node.right, entry);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        updateMaxEnd(node);
+        return node;
+    }
+
+    private static Entry removeFrom(Entry node, Entry entry) {
+        assert node != null : "Entry to remove is not in the tree";
+
+        if (node == entry) {
+            return merge(node.left, node.right);
+        }
+
+        if (entry.isBefore(node)) {
+            node.left = removeFrom(node.left, entry);
+        } else {
+            node.right = removeFrom(node.right, entry);
+        }
+        updateMaxEnd(node);
+        return node;
+    }
+
+    /**
+     * Merges two subtrees where every entry in {@code left} is before every entry in {@code right}.
+     */
+    private static Entry merge(Entry left, Entry right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            updateMaxEnd(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        updateMaxEnd(right);
+        return right;
+    }
+
+    private static Entry rotateRight(Entry node) {
+        Entry newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateMaxEnd(node);
+        updateMaxEnd(newRoot);
+        return newRoot;
+    }
+
+    private static Entry rotateLeft(Entry node) {
+        Entry newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateMaxEnd(node);
+        updateMaxEnd(newRoot);
+        return newRoot;
+    }
+
+    private static void updateMaxEnd(Entry node) {
+        LocalDateTime maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static void collectAll(Entry node, List<PersonMeeting> meetings) {
+        if (node == null) {
+            return;
+        }
+        collectAll(node.left, meetings);
+        meetings.add(node.personMeeting);
+        collectAll(node.right, meetings);
+    }
+
+    private static void collectStartingBetween(Entry node, LocalDateTime from, LocalDateTime to,
+            List<PersonMeeting> meetings) {
+        if (node == null) {
+            return;
+        }
+
+        boolean isNotBeforeFrom = !node.start.isBefore(from);
+        boolean isNotAfterTo = !node.start.isAfter(to);
+        if (isNotBeforeFrom) {
+            collectStartingBetween(node.left, from, to, meetings);
+        }
+        if (isNotBeforeFrom && isNotAfterTo) {
+            meetings.add(node.personMeeting);
+        }
+        if (isNotAfterTo) {
+            collectStartingBetween(node.right, from, to, meetings);
+        }
+    }
+
+    private static void collectOverlapping(Entry node, LocalDateTime start, LocalDateTime end,
+            List<PersonMeeting> meetings) {
+        // Nothing in this subtree ends after the span starts
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, meetings);
+        // Nothing here or to the right starts before the span ends
+        if (!node.start.isBefore(end)) {
+            return;
+        }
+        if (node.end.isAfter(start)) {
+            meetings.add(node.personMeeting);
+        }
+        collectOverlapping(node.right, start, end, meetings);
+    }
+
+}
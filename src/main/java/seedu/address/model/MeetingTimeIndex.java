@@ -0,0 +1,280 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingClash;
+import seedu.address.model.meeting.PersonMeeting;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.person.Person;
+
+/**
+ * An index of the meetings of all persons in a list, ordered by their date and time.
+ * <p>
+ * The index is kept up to date with a list of persons as persons are added to, replaced in or removed from it, so
+ * finding the meetings in a range of time, or the meetings that clash with a meeting, takes time logarithmic in the
+ * number of meetings, plus the number of meetings found, rather than a scan of every meeting of every person. The
+ * meetings indexed for each person are remembered, so removing a person removes exactly the entries added for them.
+ * <p>
+ * Recurring meetings are indexed as series rather than as each of their occurrences, in a second interval tree in
+ * which each series spans from its first start to the end of its last occurrence. Only the series overlapping the
+ * span of time being searched are found, and only their occurrences within it are generated, so series that are
+ * over or yet to start cost nothing beyond the logarithmic search.
+ */
+public class MeetingTimeIndex {
+
+    public static final String MESSAGE_INVALID_RANGE = "The start of the range must not be after its end";
+
+    private static final Comparator<PersonMeeting> BY_START =
+            Comparator.comparing(personMeeting -> personMeeting.getMeeting().getDateTime());
+
+    private final MeetingIntervalTree meetingsByTime = new MeetingIntervalTree();
+    private final Map<Person, List<MeetingIntervalTree.Entry>> meetingsByPerson = new IdentityHashMap<>();
+    private final MeetingIntervalTree seriesBySpan = new MeetingIntervalTree();
+    private final Map<Person, List<MeetingIntervalTree.Entry>> seriesByPerson = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of the meetings of {@code persons}, which is updated whenever {@code persons} changes.
+     */
+    public MeetingTimeIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the meetings, and occurrences of recurring meetings, from {@code from} to {@code to}, both inclusive,
+     * in order of their date and time. Meetings at the same date and time are in the order they were indexed, with
+     * meetings that do not repeat first.
+     *
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    public List<PersonMeeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        checkArgument(!from.isAfter(to), MESSAGE_INVALID_RANGE);
+
+        List<PersonMeeting> meetings = meetingsByTime.getStartingBetween(from, to);
+        // A series with an occurrence starting in the range also spans past its start, and starts no later than its
+        // end, which is inclusive
+        LocalDateTime afterTo = to.equals(LocalDateTime.MAX) ? to : to.plusNanos(1);
+        for (PersonMeeting series : seriesBySpan.getOverlapping(from, afterTo)) {
+            Iterator<Meeting> occurrences = series.getMeeting().getOccurrencesFrom(from);
+            while (occurrences.hasNext()) {
+                Meeting occurrence = occurrences.next();
+                if (occurrence.getDateTime().isAfter(to)) {
+                    break;
+                }
+                meetings.add(new PersonMeeting(series.getPerson(), occurrence));
+            }
+        }
+        return sortedByStart(meetings);
+    }
+
+    /**
+     * Returns the meetings, or occurrences of recurring meetings, that overlap any occurrence of {@code meeting} in
+     * time, in order of their date and time. If {@code meeting} is itself indexed, its occurrences are included.
+     * <p>
+     * Each occurrence of {@code meeting}, of which there are at most {@link Recurrence#MAX_COUNT}, is looked up in
+     * both interval trees.
+     */
+    public List<PersonMeeting> getClashingMeetings(Meeting meeting) {
+        requireNonNull(meeting);
+
+        Set<PersonMeeting> clashingMeetings = new LinkedHashSet<>();
+        Iterator<Meeting> occurrences = meeting.getOccurrences();
+        while (occurrences.hasNext()) {
+            Meeting occurrence = occurrences.next();
+            LocalDateTime start = occurrence.getDateTime();
+            LocalDateTime end = occurrence.getEndDateTime();
+
+            clashingMeetings.addAll(meetingsByTime.getOverlapping(start, end));
+            for (PersonMeeting series : seriesBySpan.getOverlapping(start, end)) {
+                Iterator<Meeting> seriesOccurrences = series.getMeeting().getOccurrencesEndingAfter(start);
+                while (seriesOccurrences.hasNext()) {
+                    Meeting seriesOccurrence = seriesOccurrences.next();
+                    if (!seriesOccurrence.getDateTime().isBefore(end)) {
+                        break;
+                    }
+                    clashingMeetings.add(new PersonMeeting(series.getPerson(), seriesOccurrence));
+                }
+            }
+        }
+        return sortedByStart(new ArrayList<>(clashingMeetings));
+    }
+
+    /**
+     * Returns every pair of indexed meetings that overlap in time, ordered by the start of the later meeting of each
+     * pair, then by the start of the earlier one.
+     * <p>
+     * Every occurrence of a recurring meeting is a meeting of its own here. Meetings with the same start are in the
+     * order they were indexed, with meetings that do not repeat first.
+     * <p>
+     * The meetings are swept in order of their start, keeping a heap of the meetings still ongoing ordered by their
+     * end, so this takes O(m log m + p log p) time for m meetings and occurrences and p clashing pairs. The
+     * occurrences of each series, of which there are at most {@link Recurrence#MAX_COUNT}, are generated as the sweep
+     * reaches them, merged in with a heap holding the next meeting of each series, rather than all held at once.
+     */
+    public List<MeetingClash> getClashes() {
+        PriorityQueue<MeetingCursor> cursors = new PriorityQueue<>(
+                Comparator.comparing(MeetingCursor::peekStart).thenComparingInt(cursor -> cursor.order));
+        addIfNotEmpty(cursors, new MeetingCursor(0, meetingsByTime.toList().iterator()));
+        int order = 1;
+        for (PersonMeeting series : seriesBySpan.toList()) {
+            addIfNotEmpty(cursors, new MeetingCursor(order++, occurrencesOf(series)));
+        }
+
+        PriorityQueue<SweptMeeting> ongoing = new PriorityQueue<>(
+                Comparator.comparing((SweptMeeting swept) -> swept.meeting.getMeeting().getEndDateTime()));
+        List<MeetingClash> clashes = new ArrayList<>();
+
+        for (int position = 0; !cursors.isEmpty(); position++) {
+            MeetingCursor cursor = cursors.poll();
+            PersonMeeting meeting = cursor.next();
+            addIfNotEmpty(cursors, cursor);
+
+            LocalDateTime start = meeting.getMeeting().getDateTime();
+            while (!ongoing.isEmpty() && !ongoing.peek().meeting.getMeeting().getEndDateTime().isAfter(start)) {
+                ongoing.poll();
+            }
+
+            // Every meeting still ongoing started no later than this one and ends after it starts
+            List<SweptMeeting> clashing = new ArrayList<>(ongoing);
+            clashing.sort(Comparator.comparingInt(swept -> swept.position));
+            for (SweptMeeting earlier : clashing) {
+                clashes.add(new MeetingClash(earlier.meeting, meeting));
+            }
+            ongoing.add(new SweptMeeting(position, meeting));
+        }
+        return clashes;
+    }
+
+    private void add(Person person) {
+        List<MeetingIntervalTree.Entry> entries = new ArrayList<>(person.getMeetingCount());
+        List<MeetingIntervalTree.Entry> series = new ArrayList<>();
+        for (Meeting meeting : person.getMeetings()) {
+            if (meeting.isRecurring()) {
+                series.add(seriesBySpan.insert(new PersonMeeting(person, meeting), meeting.getDateTime(),
+                        meeting.getLastEndDateTime()));
+            } else {
+                entries.add(meetingsByTime.insert(new PersonMeeting(person, meeting)));
+            }
+        }
+        meetingsByPerson.put(person, entries);
+        if (!series.isEmpty()) {
+            seriesByPerson.put(person, series);
+        }
+    }
+
+    private void remove(Person person) {
+        List<MeetingIntervalTree.Entry> entries = meetingsByPerson.remove(person);
+        if (entries == null) {
+            return;
+        }
+        entries.forEach(meetingsByTime::remove);
+        List<MeetingIntervalTree.Entry> series = seriesByPerson.remove(person);
+        if (series != null) {
+            series.forEach(seriesBySpan::remove);
+        }
+    }
+
+    /**
+     * Returns the occurrences of the recurring meeting {@code series}, each as a meeting of the same person.
+     */
+    private static Iterator<PersonMeeting> occurrencesOf(PersonMeeting series) {
+        Iterator<Meeting> occurrences = series.getMeeting().getOccurrences();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return occurrences.hasNext();
+            }
+
+            @Override
+            public PersonMeeting next() {
+                return new PersonMeeting(series.getPerson(), occurrences.next());
+            }
+        };
+    }
+
+    private static void addIfNotEmpty(PriorityQueue<MeetingCursor> cursors, MeetingCursor cursor) {
+        if (cursor.hasNext()) {
+            cursors.add(cursor);
+        }
+    }
+
+    /**
+     * Sorts {@code meetings} in place by their start, keeping meetings with the same start in their order.
+     */
+    private static List<PersonMeeting> sortedByStart(List<PersonMeeting> meetings) {
+        meetings.sort(BY_START);
+        return meetings;
+    }
+
+    /**
+     * A position in meetings that are in order of their start, which can look at the next meeting without moving
+     * past it.
+     */
+    private static class MeetingCursor {
+        private final int order;
+        private final Iterator<PersonMeeting> meetings;
+        private PersonMeeting next;
+
+        /**
+         * Creates a cursor at the first of {@code meetings}, which is ordered among other cursors by {@code order}
+         * where their next meetings have the same start.
+         */
+        MeetingCursor(int order, Iterator<PersonMeeting> meetings) {
+            this.order = order;
+            this.meetings = meetings;
+            this.next = meetings.hasNext() ? meetings.next() : null;
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        LocalDateTime peekStart() {
+            return next.getMeeting().getDateTime();
+        }
+
+        PersonMeeting next() {
+            PersonMeeting current = next;
+            next = meetings.hasNext() ? meetings.next() : null;
+            return current;
+        }
+    }
+
+    /**
+     * A meeting reached by the sweep for clashes, with its position in the order the meetings were swept.
+     */
+    private static class SweptMeeting {
+        private final int position;
+        private final PersonMeeting meeting;
+
+        SweptMeeting(int position, PersonMeeting meeting) {
+            this.position = position;
+            this.meeting = meeting;
+        }
+    }
+
+}
@@ -1,11 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.list.PersonList;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingClash;
+import seedu.address.model.meeting.PersonMeeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -78,19 +83,38 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Deletes the meeting at index {@code meetingToDelete} from the given person's list of meetings.
+     * Replaces the given person {@code target} with a copy without the meeting at index {@code meetingToDelete}.
      * {@code target} must exist in the address book.
      * The index must be valid.
      */
     void deleteMeetingFromPerson(Person target, int meetingToDelete);
 
     /**
-     * Updates the meeting at index {@code meetingToEdit} from the given person's list of meetings.
+     * Replaces the given person {@code target} with a copy where the meeting at index {@code meetingToEdit} is
+     * {@code editedMeeting}.
      * {@code target} must exist in the address book.
      * The index must be valid.
      */
     void editMeeting(Person target, int meetingToEdit, Meeting editedMeeting);
 
+    /**
+     * Returns the meetings of all persons from {@code from} to {@code to}, both inclusive, in order of their date and
+     * time.
+     * @throws IllegalArgumentException if {@code from} is after {@code to}.
+     */
+    List<PersonMeeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the meetings of all persons that overlap {@code meeting} in time, in order of their date and time.
+     * @throws NullPointerException if {@code meeting} is null.
+     */
+    List<PersonMeeting> getClashingMeetings(Meeting meeting);
+
+    /**
+     * Returns every pair of meetings of all persons that overlap in time.
+     */
+    List<MeetingClash> getMeetingClashes();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getPersonList();
 
@@ -99,4 +123,27 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updatePersonListFilter(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to show only the persons with a word in their name that is equal
+     * to any of {@code keywords}, ignoring case. Shows the same persons as filtering by a
+     * {@code NameContainsKeywordsPredicate} with the same keywords, but tests each person on their cached name words.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updatePersonListFilterByName(List<String> keywords);
+
+    /**
+     * Updates the filter of the filtered person list to show only the persons with a meeting whose name has a word that
+     * is equal to any of {@code keywords}, ignoring case. Shows the same persons as filtering by a
+     * {@code MeetingNameContainsKeywordsPredicate} with the same keywords, but tests each person on their cached
+     * meeting name words.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updatePersonListFilterByMeetingName(List<String> keywords);
+
+    /**
+     * Returns the diagnostics of the filtered person list, such as how many persons the latest filter was tested
+     * against, how many of them matched and how long it took.
+     */
+    PersonList.Diagnostics getPersonListDiagnostics();
 }
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,6 +16,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.list.PersonList;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingClash;
+import seedu.address.model.meeting.PersonMeeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -23,6 +29,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final PersonList personList;
+    private final PersonWordCache personNameWords;
+    private final PersonWordCache meetingNameWords;
+    private final MeetingTimeIndex meetingTimeIndex;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -30,11 +39,15 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        LogsCenter.log(logger, Level.FINE, "Initializing with address book: %s and user prefs %s", addressBook,
+                userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         personList = new PersonList(this.addressBook.getPersonList());
+        personNameWords = PersonWordCache.ofNames(this.addressBook.getPersonList());
+        meetingNameWords = PersonWordCache.ofMeetingNames(this.addressBook.getPersonList());
+        meetingTimeIndex = new MeetingTimeIndex(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -114,13 +127,45 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteMeetingFromPerson(Person target, int meetingToDelete) {
-        target.removeMeeting(meetingToDelete);
+        requireNonNull(target);
+        List<Meeting> meetings = new ArrayList<>(target.getMeetings());
+        meetings.remove(meetingToDelete);
+        addressBook.setPerson(target, withMeetings(target, meetings));
     }
 
     @Override
     public void editMeeting(Person target, int meetingToEdit, Meeting editedMeeting) {
         requireAllNonNull(target, editedMeeting);
-        target.editMeeting(meetingToEdit, editedMeeting);
+        List<Meeting> meetings = new ArrayList<>(target.getMeetings());
+        meetings.set(meetingToEdit, editedMeeting);
+        addressBook.setPerson(target, withMeetings(target, meetings));
+    }
+
+    /**
+     * Returns a copy of {@code person} with {@code meetings} in place of their meetings.
+     * Persons are replaced rather than changed in place, so that the change is seen by everything that listens to the
+     * address book, such as the indexes, the sorted view and the storage that saves it.
+     */
+    private static Person withMeetings(Person person, List<Meeting> meetings) {
+        return new Person(person.getName(), person.getPhone(), person.getOtherPhones(), person.getEmail(),
+                person.getAddress(), person.getTags(), meetings, person.getFlagStatus());
+    }
+
+    @Override
+    public List<PersonMeeting> getMeetingsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return meetingTimeIndex.getMeetingsBetween(from, to);
+    }
+
+    @Override
+    public List<PersonMeeting> getClashingMeetings(Meeting meeting) {
+        requireNonNull(meeting);
+        return meetingTimeIndex.getClashingMeetings(meeting);
+    }
+
+    @Override
+    public List<MeetingClash> getMeetingClashes() {
+        return meetingTimeIndex.getClashes();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -140,6 +185,23 @@ public class ModelManager implements Model {
         personList.updatePersonListFilter(predicate);
     }
 
+    @Override
+    public void updatePersonListFilterByName(List<String> keywords) {
+        requireNonNull(keywords);
+        personList.updatePersonListFilter(personNameWords.matcher(keywords));
+    }
+
+    @Override
+    public void updatePersonListFilterByMeetingName(List<String> keywords) {
+        requireNonNull(keywords);
+        personList.updatePersonListFilter(meetingNameWords.matcher(keywords));
+    }
+
+    @Override
+    public PersonList.Diagnostics getPersonListDiagnostics() {
+        return personList.getDiagnostics();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
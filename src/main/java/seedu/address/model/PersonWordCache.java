@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.MeetingNameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * A cache of the words in some text of each person in a list, such as their name, with their case folded.
+ * <p>
+ * The words of a person are split out and folded once, when the person is added to or replaces another in the list,
+ * rather than every time the person is tested against keywords. Testing a person then takes a few set lookups, but
+ * filtering a list still tests every person in it.
+ */
+public class PersonWordCache {
+
+    private final Function<Person, Collection<String>> textsOf;
+    private final Map<Person, Set<String>> wordsByPerson = new IdentityHashMap<>();
+
+    /**
+     * Creates a cache of the words in the texts that {@code textsOf} returns for each of {@code persons}, which is
+     * updated whenever {@code persons} changes.
+     */
+    public PersonWordCache(ObservableList<Person> persons, Function<Person, Collection<String>> textsOf) {
+        requireNonNull(persons);
+        requireNonNull(textsOf);
+
+        this.textsOf = textsOf;
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(wordsByPerson::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Creates a cache of the words in the names of {@code persons}, whose matchers match the same persons as a
+     * {@link NameContainsKeywordsPredicate}.
+     */
+    public static PersonWordCache ofNames(ObservableList<Person> persons) {
+        return new PersonWordCache(persons, person -> List.of(person.getName().fullName));
+    }
+
+    /**
+     * Creates a cache of the words in the names of the meetings of {@code persons}, whose matchers match the same
+     * persons as a {@link MeetingNameContainsKeywordsPredicate}.
+     */
+    public static PersonWordCache ofMeetingNames(ObservableList<Person> persons) {
+        return new PersonWordCache(persons, person -> person.getMeetings().stream()
+                .map(meeting -> meeting.getMeetingName().meetingName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a predicate that tests whether a person has a word in their text that is equal to any of
+     * {@code keywords}, ignoring case.
+     * <p>
+     * The predicate looks up the words of each person it is given as they are cached at the time, so it still holds
+     * for a person that has replaced a match in the list. A person that is not cached, such as one that has just been
+     * added and is being tested before the cache has seen it, is tested on their own text.
+     */
+    public Predicate<Person> matcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+
+        Set<String> foldedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            foldedKeywords.add(StringUtil.foldCase(keyword.trim()));
+        }
+        return person -> {
+            Set<String> words = wordsByPerson.get(person);
+            if (words == null) {
+                words = wordsOf(person);
+            }
+            return !Collections.disjoint(foldedKeywords, words);
+        };
+    }
+
+    private Set<String> wordsOf(Person person) {
+        Set<String> words = new HashSet<>();
+        for (String text : textsOf.apply(person)) {
+            for (String word : StringUtil.splitIntoWords(text)) {
+                words.add(StringUtil.foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    private void add(Person person) {
+        wordsByPerson.put(person, wordsOf(person));
+    }
+
+}
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a counter that increases every time the data of this address book is modified.
+     * The data is unchanged for as long as the counter stays the same.
+     */
+    long getModificationCount();
+
 }
@@ -0,0 +1,77 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.parser.DateTimeParser;
+
+/**
+ * A span of time in which none of a group of persons has a meeting, from its start to its end, exclusive.
+ * Guarantees: immutable; details are present and not null; the start is before the end.
+ */
+public class FreeSlot {
+
+    public static final String MESSAGE_CONSTRAINTS = "A free slot must start before it ends";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Every field must be present and not null, and {@code start} must be before {@code end}.
+     */
+    public FreeSlot(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.isBefore(end), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public LocalDateTime getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the slot formatted for display to the user.
+     */
+    public String toDisplayString() {
+        return DateTimeParser.format(start) + " to " + DateTimeParser.format(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlot)) {
+            return false;
+        }
+
+        FreeSlot otherSlot = (FreeSlot) other;
+        return start.equals(otherSlot.start)
+                && end.equals(otherSlot.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+
+}
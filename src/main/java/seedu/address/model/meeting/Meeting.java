@@ -1,9 +1,15 @@
 package seedu.address.model.meeting;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -11,25 +17,64 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Represents a Meeting in the address book.
  */
 public class Meeting {
+    public static final String MESSAGE_RECURRENCE_CONSTRAINTS =
+            "A recurring meeting should not repeat until a date and time before it first starts, nor more than "
+            + Recurrence.MAX_COUNT + " times";
+
     private final MeetingName meetingName;
     private final Venue venue;
     private final When when;
+    private final MeetingDuration duration;
+    // Null if the meeting does not repeat
+    private final Recurrence recurrence;
 
     /**
-     * Constructs a {@code Meeting}
+     * Constructs a {@code Meeting} that lasts for {@link MeetingDuration#DEFAULT}
      * @param meetingName name of the meeting
      * @param venue venue of the meeting
      * @param when date and time of the meeting
      */
     public Meeting(MeetingName meetingName, Venue venue, When when) {
-        requireAllNonNull(meetingName, venue, when);
+        this(meetingName, venue, when, MeetingDuration.DEFAULT);
+    }
+
+    /**
+     * Constructs a {@code Meeting}
+     * @param meetingName name of the meeting
+     * @param venue venue of the meeting
+     * @param when date and time of the meeting
+     * @param duration how long the meeting lasts
+     */
+    public Meeting(MeetingName meetingName, Venue venue, When when, MeetingDuration duration) {
+        requireAllNonNull(meetingName, venue, when, duration);
         this.meetingName = meetingName;
         this.venue = venue;
         this.when = when;
+        this.duration = duration;
+        this.recurrence = null;
     }
 
     /**
-     * Constructs a {@code Meeting}
+     * Constructs a {@code Meeting} that repeats, whose first occurrence is at {@code when}
+     * @param meetingName name of the meeting
+     * @param venue venue of the meeting
+     * @param when date and time of the first occurrence of the meeting
+     * @param duration how long each occurrence of the meeting lasts
+     * @param recurrence how the meeting repeats, which must be valid from {@code when}
+     */
+    public Meeting(MeetingName meetingName, Venue venue, When when, MeetingDuration duration,
+            Recurrence recurrence) {
+        requireAllNonNull(meetingName, venue, when, duration, recurrence);
+        checkArgument(isValidRecurrence(when, recurrence), MESSAGE_RECURRENCE_CONSTRAINTS);
+        this.meetingName = meetingName;
+        this.venue = venue;
+        this.when = when;
+        this.duration = duration;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Constructs a {@code Meeting} that lasts for {@link MeetingDuration#DEFAULT}
      * @param meetingName name of the meeting
      * @param venue venue of the meeting
      * @param when date and time of the meeting in {@code String} format
@@ -39,6 +84,17 @@ public class Meeting {
         this.meetingName = new MeetingName(meetingName);
         this.venue = new Venue(venue);
         this.when = new When(when);
+        this.duration = MeetingDuration.DEFAULT;
+        this.recurrence = null;
+    }
+
+    /**
+     * Returns true if {@code recurrence} is valid for a meeting first occurring at {@code when}.
+     *
+     * @see Recurrence#isValidFrom(LocalDateTime)
+     */
+    public static boolean isValidRecurrence(When when, Recurrence recurrence) {
+        return recurrence.isValidFrom(when.getWhen());
     }
 
     public MeetingName getMeetingName() {
@@ -57,6 +113,105 @@ public class Meeting {
         return when.getWhen();
     }
 
+    public MeetingDuration getDuration() {
+        return duration;
+    }
+
+    public Optional<Recurrence> getRecurrence() {
+        return Optional.ofNullable(recurrence);
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /**
+     * Returns the date and time the meeting ends, exclusive. For a recurring meeting, this is the end of its first
+     * occurrence.
+     */
+    public LocalDateTime getEndDateTime() {
+        return when.getWhen().plusMinutes(duration.minutes);
+    }
+
+    /**
+     * Returns the date and time the last occurrence of the meeting ends, exclusive. For a meeting that does not
+     * repeat, this is when it ends.
+     */
+    public LocalDateTime getLastEndDateTime() {
+        if (recurrence == null) {
+            return getEndDateTime();
+        }
+        LocalDateTime lastStart = recurrence.getLastStart(getDateTime());
+        return lastStart == null ? LocalDateTime.MAX : lastStart.plusMinutes(duration.minutes);
+    }
+
+    /**
+     * Returns the occurrences of this meeting in order of time. A meeting that does not repeat is its only
+     * occurrence, and each occurrence of a recurring meeting is a meeting that does not repeat.
+     */
+    public Iterator<Meeting> getOccurrences() {
+        return getOccurrencesFrom(getDateTime());
+    }
+
+    /**
+     * Returns the occurrences of this meeting that start no earlier than {@code from}, in order of time.
+     * The occurrences of a recurring meeting are created only as they are iterated over.
+     */
+    public Iterator<Meeting> getOccurrencesFrom(LocalDateTime from) {
+        requireNonNull(from);
+
+        if (recurrence == null) {
+            return getDateTime().isBefore(from) ? Collections.emptyIterator() : List.of(this).iterator();
+        }
+
+        Iterator<LocalDateTime> starts = recurrence.getStartsFrom(getDateTime(), from);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return starts.hasNext();
+            }
+
+            @Override
+            public Meeting next() {
+                return getOccurrenceAt(starts.next());
+            }
+        };
+    }
+
+    /**
+     * Returns the occurrences of this meeting that end after {@code time}, in order of time.
+     */
+    public Iterator<Meeting> getOccurrencesEndingAfter(LocalDateTime time) {
+        requireNonNull(time);
+        return getOccurrencesFrom(time.minusMinutes(duration.minutes).plusNanos(1));
+    }
+
+    /**
+     * Returns true if {@code other} is an occurrence of this meeting.
+     */
+    public boolean hasOccurrence(Meeting other) {
+        requireNonNull(other);
+        Iterator<Meeting> occurrences = getOccurrencesFrom(other.getDateTime());
+        return occurrences.hasNext() && occurrences.next().equals(other);
+    }
+
+    private Meeting getOccurrenceAt(LocalDateTime start) {
+        try {
+            return new Meeting(meetingName, venue, new When(start), duration);
+        } catch (ParseException pe) {
+            throw new AssertionError("Every date and time is a valid When", pe);
+        }
+    }
+
+    /**
+     * Returns true if this meeting and {@code other} overlap in time.
+     * A meeting that ends exactly when another starts does not overlap it. For a recurring meeting, only its first
+     * occurrence is compared.
+     */
+    public boolean overlaps(Meeting other) {
+        return getDateTime().isBefore(other.getEndDateTime()) && other.getDateTime().isBefore(getEndDateTime());
+    }
+
     public boolean isMeetingNameBlank() {
         return meetingName == null || meetingName.isBlank();
     }
@@ -71,7 +226,8 @@ public class Meeting {
 
     @Override
     public String toString() {
-        return String.format("%s at %s (%s)", meetingName, venue, when);
+        return meetingName + " at " + venue + " (" + when + ", " + duration
+                + (recurrence == null ? "" : ", " + recurrence) + ")";
     }
 
     @Override
@@ -80,11 +236,13 @@ public class Meeting {
                 || other instanceof Meeting
                 && meetingName.equals(((Meeting) other).meetingName)
                 && venue.equals(((Meeting) other).venue)
-                && when.equals(((Meeting) other).when);
+                && when.equals(((Meeting) other).when)
+                && duration.equals(((Meeting) other).duration)
+                && Objects.equals(recurrence, ((Meeting) other).recurrence);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(meetingName, venue, when);
+        return Objects.hash(meetingName, venue, when, duration, recurrence);
     }
 }
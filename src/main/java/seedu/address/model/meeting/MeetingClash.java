@@ -0,0 +1,64 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A pair of meetings that overlap in time, the first starting no later than the second.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class MeetingClash {
+
+    private final PersonMeeting first;
+    private final PersonMeeting second;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public MeetingClash(PersonMeeting first, PersonMeeting second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+    }
+
+    public PersonMeeting getFirst() {
+        return first;
+    }
+
+    public PersonMeeting getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingClash)) {
+            return false;
+        }
+
+        MeetingClash otherClash = (MeetingClash) other;
+        return first.equals(otherClash.first)
+                && second.equals(otherClash.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+
+}
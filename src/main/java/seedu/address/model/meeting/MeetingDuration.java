@@ -0,0 +1,84 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Pattern;
+
+/**
+ * Represents how long a Meeting lasts, in whole minutes.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDuration(String)}
+ */
+public class MeetingDuration {
+    public static final int MAX_MINUTES = 24 * 60;
+    public static final String MESSAGE_CONSTRAINTS =
+            "Duration should be a whole number of minutes from 1 to " + MAX_MINUTES;
+
+    /** The duration of meetings that are not given one, such as those saved before meetings had durations. */
+    public static final MeetingDuration DEFAULT = new MeetingDuration(60);
+
+    public static final String VALIDATION_REGEX = "\\d{1,4}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    public final int minutes;
+
+    /**
+     * Constructs a {@code MeetingDuration}.
+     *
+     * @param minutes A valid number of minutes.
+     */
+    public MeetingDuration(int minutes) {
+        checkArgument(isValidDuration(minutes), MESSAGE_CONSTRAINTS);
+        this.minutes = minutes;
+    }
+
+    /**
+     * Constructs a {@code MeetingDuration}.
+     *
+     * @param minutes A valid number of minutes in String format.
+     */
+    public MeetingDuration(String minutes) {
+        requireNonNull(minutes);
+        checkArgument(isValidDuration(minutes), MESSAGE_CONSTRAINTS);
+        this.minutes = Integer.parseInt(minutes);
+    }
+
+    /**
+     * Returns true if a given string is a valid number of minutes.
+     */
+    public static boolean isValidDuration(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches() && isValidDuration(Integer.parseInt(test));
+    }
+
+    /**
+     * Returns true if a given number of minutes is a valid duration.
+     */
+    public static boolean isValidDuration(int test) {
+        return test >= 1 && test <= MAX_MINUTES;
+    }
+
+    @Override
+    public String toString() {
+        return minutes + " min";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MeetingDuration)) {
+            return false;
+        }
+
+        MeetingDuration otherDuration = (MeetingDuration) other;
+        return minutes == otherDuration.minutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(minutes);
+    }
+}
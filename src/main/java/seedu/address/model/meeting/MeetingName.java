@@ -3,6 +3,8 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Meeting's name.
  * Guarantees: immutable; is valid as declared in {@link #isValidMeetingName(String)}
@@ -16,6 +18,7 @@ public class MeetingName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?=.*\\p{L}|\\d)[\\p{L}\\p{M}0-9 '\\s]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String meetingName;
 
@@ -34,7 +37,7 @@ public class MeetingName {
      * Returns true if a given string is a valid meeting name.
      */
     public static boolean isValidMeetingName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public boolean isBlank() {
@@ -0,0 +1,65 @@
+package seedu.address.model.meeting;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Meeting} together with the {@code Person} it is with.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class PersonMeeting {
+
+    private final Person person;
+    private final Meeting meeting;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonMeeting(Person person, Meeting meeting) {
+        requireAllNonNull(person, meeting);
+        this.person = person;
+        this.meeting = meeting;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Meeting getMeeting() {
+        return meeting;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMeeting)) {
+            return false;
+        }
+
+        PersonMeeting otherPersonMeeting = (PersonMeeting) other;
+        return person.equals(otherPersonMeeting.person)
+                && meeting.equals(otherPersonMeeting.meeting);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, meeting);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("person", person.getName())
+                .add("meeting", meeting)
+                .toString();
+    }
+
+}
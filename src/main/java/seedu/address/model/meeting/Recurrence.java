@@ -0,0 +1,255 @@
+package seedu.address.model.meeting;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.parser.DateTimeParser;
+
+/**
+ * Represents how a Meeting repeats: daily, weekly or monthly, either a number of times or until a date and time.
+ * <p>
+ * Only the rule is stored, so a series takes the same space however many times it repeats. The start of each
+ * occurrence is computed from the start of the series when needed, so the occurrences within a window of time can
+ * be found without going through those before it.
+ * <p>
+ * A series repeats at most {@link #MAX_COUNT} times, so going through all of its occurrences, as finding clashes
+ * does, always ends in reasonable time.
+ * Guarantees: immutable; exactly one of the count and the end is present; the count is from 1 to {@link #MAX_COUNT}.
+ */
+public class Recurrence {
+
+    /**
+     * How often a meeting repeats.
+     */
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public static final int MAX_COUNT = 1000;
+
+    public static final String MESSAGE_FREQUENCY_CONSTRAINTS = "Recurrence should be one of daily, weekly or monthly";
+    public static final String MESSAGE_COUNT_CONSTRAINTS =
+            "The number of occurrences should be a whole number from 1 to " + MAX_COUNT;
+    public static final String MESSAGE_CONSTRAINTS = "A recurring meeting should have either a number of "
+            + "occurrences or a date and time it repeats until, but not both";
+
+    public static final String COUNT_VALIDATION_REGEX = "\\d{1,9}";
+
+    private final Frequency frequency;
+    private final Integer count;
+    private final LocalDateTime until;
+
+    /**
+     * Constructs a {@code Recurrence} that repeats {@code count} times in all.
+     */
+    public Recurrence(Frequency frequency, int count) {
+        requireNonNull(frequency);
+        checkArgument(isValidCount(count), MESSAGE_COUNT_CONSTRAINTS);
+        this.frequency = frequency;
+        this.count = count;
+        this.until = null;
+    }
+
+    /**
+     * Constructs a {@code Recurrence} that repeats as long as an occurrence starts no later than {@code until}.
+     */
+    public Recurrence(Frequency frequency, LocalDateTime until) {
+        requireAllNonNull(frequency, until);
+        this.frequency = frequency;
+        this.count = null;
+        this.until = until;
+    }
+
+    /**
+     * Returns true if a given string is a valid frequency.
+     */
+    public static boolean isValidFrequency(String test) {
+        return parseFrequency(test).isPresent();
+    }
+
+    /**
+     * Returns the frequency named by {@code frequency}, ignoring case, if there is one.
+     */
+    public static Optional<Frequency> parseFrequency(String frequency) {
+        requireNonNull(frequency);
+        for (Frequency value : Frequency.values()) {
+            if (value.name().equalsIgnoreCase(frequency)) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if a given string is a valid number of occurrences.
+     */
+    public static boolean isValidCount(String test) {
+        return test.matches(COUNT_VALIDATION_REGEX) && isValidCount(Integer.parseInt(test));
+    }
+
+    /**
+     * Returns true if a given number of occurrences is valid.
+     */
+    public static boolean isValidCount(int test) {
+        return test > 0 && test <= MAX_COUNT;
+    }
+
+    /**
+     * Returns true if a series starting at {@code seriesStart} repeats until no earlier than it starts, and no more
+     * than {@link #MAX_COUNT} times. A series with a count always repeats a valid number of times.
+     */
+    public boolean isValidFrom(LocalDateTime seriesStart) {
+        requireNonNull(seriesStart);
+        if (until == null) {
+            return true;
+        }
+        LocalDateTime startAfterLimit = getStart(seriesStart, MAX_COUNT);
+        return !until.isBefore(seriesStart) && (startAfterLimit == null || startAfterLimit.isAfter(until));
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public Optional<Integer> getCount() {
+        return Optional.ofNullable(count);
+    }
+
+    public Optional<LocalDateTime> getUntil() {
+        return Optional.ofNullable(until);
+    }
+
+    /**
+     * Returns the starts of the occurrences of a series starting at {@code seriesStart} that are not before
+     * {@code from}, in order. The starts are computed as they are iterated over, beginning from the first
+     * occurrence not before {@code from}.
+     */
+    public Iterator<LocalDateTime> getStartsFrom(LocalDateTime seriesStart, LocalDateTime from) {
+        requireAllNonNull(seriesStart, from);
+        return new StartIterator(seriesStart, from);
+    }
+
+    /**
+     * Returns the start of the last occurrence of a series starting at {@code seriesStart}, which this recurrence is
+     * valid from, or null if it is beyond the range of supported dates and times.
+     */
+    public LocalDateTime getLastStart(LocalDateTime seriesStart) {
+        requireNonNull(seriesStart);
+        if (count != null) {
+            return getStart(seriesStart, count - 1);
+        }
+
+        // Counting whole units may fall short by one where months differ in length
+        long n = Math.max(0, frequency.unit.between(seriesStart, until));
+        LocalDateTime next = getStart(seriesStart, n + 1);
+        while (next != null && !next.isAfter(until)) {
+            n++;
+            next = getStart(seriesStart, n + 1);
+        }
+        return getStart(seriesStart, n);
+    }
+
+    /**
+     * Returns the start of the occurrence {@code n} repetitions after {@code seriesStart}. Each start is computed
+     * from the start of the series rather than the previous occurrence, so a monthly meeting on the 31st is on the
+     * last day of shorter months and back on the 31st after them. Returns null if the start is beyond the range of
+     * supported dates and times.
+     */
+    private LocalDateTime getStart(LocalDateTime seriesStart, long n) {
+        try {
+            return seriesStart.plus(n, frequency.unit);
+        } catch (DateTimeException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private boolean hasOccurrence(long n, LocalDateTime start) {
+        return start != null && (count == null ? !start.isAfter(until) : n < count);
+    }
+
+    private class StartIterator implements Iterator<LocalDateTime> {
+        private long n;
+        private LocalDateTime next;
+        private final LocalDateTime seriesStart;
+
+        StartIterator(LocalDateTime seriesStart, LocalDateTime from) {
+            this.seriesStart = seriesStart;
+            // Counting whole units may overshoot by one where months differ in length
+            n = Math.max(0, frequency.unit.between(seriesStart, from) - 1);
+            next = getStart(seriesStart, n);
+            while (next != null && next.isBefore(from)) {
+                n++;
+                next = getStart(seriesStart, n);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasOccurrence(n, next);
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime current = next;
+            n++;
+            next = getStart(seriesStart, n);
+            return current;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return count == null
+                ? frequency + " until " + DateTimeParser.format(until)
+                : frequency + ", " + count + " times";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Recurrence)) {
+            return false;
+        }
+
+        Recurrence otherRecurrence = (Recurrence) other;
+        return frequency == otherRecurrence.frequency
+                && Objects.equals(count, otherRecurrence.count)
+                && Objects.equals(until, otherRecurrence.until);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(frequency, count, until);
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.address.model.meeting;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Meeting's venue.
  * Guarantees: immutable; is valid as declared in {@link #isValidVenue(String)}
@@ -17,6 +19,7 @@ public class Venue {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?=.*[\\p{L}\\d])[\\p{L}\\p{M}\\d ,.'()#&\\-/]+$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -35,7 +38,7 @@ public class Venue {
      * Returns true if a given string is a valid venue.
      */
     public static boolean isValidVenue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public boolean isBlank() {
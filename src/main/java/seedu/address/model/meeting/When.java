@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_DATETIME_FORMAT;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -22,6 +24,9 @@ public class When {
 
     public final LocalDateTime value;
 
+    // Formatted lazily, as most datetimes loaded are never displayed.
+    private String displayString;
+
     /**
      * Constructs a {@code When}.
      *
@@ -29,9 +34,10 @@ public class When {
      */
     public When(String when) throws ParseException {
         requireNonNull(when);
-        checkArgument(isValidWhen(when), MESSAGE_CONSTRAINTS);
-        value = DateTimeParser.parseDateTime(when);
-        logger.info(String.format("Supplied: %s, Result: %s", when, value));
+        Optional<LocalDateTime> result = DateTimeParser.tryParseDateTime(when);
+        checkArgument(result.isPresent(), MESSAGE_CONSTRAINTS);
+        value = result.get();
+        LogsCenter.log(logger, Level.FINE, "Supplied: %s, Result: %s", when, value);
     }
 
     /**
@@ -49,13 +55,7 @@ public class When {
      * Returns true if a given string is a valid date and time.
      */
     public static boolean isValidWhen(String test) {
-        try {
-            LocalDateTime result = DateTimeParser.parseDateTime(test);
-            logger.info(String.format("Supplied: %s, Result: %s", test, result));
-            return true;
-        } catch (ParseException pe) {
-            return false;
-        }
+        return DateTimeParser.tryParseDateTime(test).isPresent();
     }
 
     /**
@@ -74,7 +74,10 @@ public class When {
 
     @Override
     public String toString() {
-        return DateTimeParser.format(value);
+        if (displayString == null) {
+            displayString = DateTimeParser.format(value);
+        }
+        return displayString;
     }
 
     public LocalDateTime getWhen() {
@@ -4,12 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.ParserUtil.parseParametersAndLabels;
 import static seedu.address.model.person.Person.LABEL_MESSAGE;
-import static seedu.address.model.person.Person.LABEL_VALIDATION_REGEX;
+import static seedu.address.model.person.Person.LABEL_VALIDATION_PATTERN;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -31,6 +32,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern ADDRESS_VALIDATION_PATTERN = Pattern.compile(ADDRESS_VALIDATION_REGEX);
     private static final Logger logger = LogsCenter.getLogger(Address.class);
     public final String value;
 
@@ -96,11 +98,11 @@ public class Address {
                 return false;
             }
 
-            if (checkAddress && !currString.matches(ADDRESS_VALIDATION_REGEX)) {
+            if (checkAddress && !ADDRESS_VALIDATION_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
-            if (!checkAddress && !currString.matches(LABEL_VALIDATION_REGEX)) {
+            if (!checkAddress && !LABEL_VALIDATION_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
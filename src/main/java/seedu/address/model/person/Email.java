@@ -4,12 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.ParserUtil.parseParametersAndLabels;
 import static seedu.address.model.person.Person.LABEL_MESSAGE;
-import static seedu.address.model.person.Person.LABEL_VALIDATION_REGEX;
+import static seedu.address.model.person.Person.LABEL_VALIDATION_PATTERN;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -48,6 +49,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String EMAIL_VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
 
     public final String value;
 
@@ -116,11 +118,11 @@ public class Email {
                 return false;
             }
 
-            if (checkEmail && !currString.matches(EMAIL_VALIDATION_REGEX)) {
+            if (checkEmail && !EMAIL_VALIDATION_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
-            if (!checkEmail && !currString.matches(LABEL_VALIDATION_REGEX)) {
+            if (!checkEmail && !LABEL_VALIDATION_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
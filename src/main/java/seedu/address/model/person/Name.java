@@ -3,8 +3,6 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import seedu.address.logic.parser.exceptions.ParseException;
-
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -24,15 +22,17 @@ public class Name {
             "Names should not contain consecutive spaces, hyphens, apostrophes, accented characters,"
                     + "periods or slashes\n";
 
-    /*
-     * The first character of the address must not be a whitespace,
-     * otherwise " " (a blank string) becomes a valid input.
+    /**
+     * Outcomes of validating a name, in the order the checks are made.
      */
-    public static final String VALIDATION_REGEX_AT_LEAST_ONE_ALPHANUMERIC = "(?=.*(\\p{L}|\\d)).*";
-    public static final String VALIDATION_REGEX_NAME_CONSTRAINTS = "^[\\p{L}\\p{M}0-9 \\-'’./]+$";
-    public static final String VALIDATION_REGEX_NO_SPECIAL_CHAR_START = "^[\\-'’./].*$";
-    public static final String VALIDATION_REGEX_NO_SPECIAL_CHAR_END = "^.*[\\-'’./]$";
-    public static final String VALIDATION_REGEX_NO_CONSECUTIVE_SPECIAL_CHAR = ".*([ \\-'’./])\\1.*";
+    public enum ValidationResult {
+        VALID,
+        BLANK,
+        NO_ALPHANUMERIC,
+        INVALID_CHARACTER,
+        INVALID_START_END,
+        CONSECUTIVE_SPECIAL_CHARACTERS
+    }
 
     public final String fullName;
 
@@ -43,49 +43,92 @@ public class Name {
      */
     public Name(String name) {
         requireNonNull(name);
-
-        try {
-            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
-        } catch (ParseException e) {
-            throw new IllegalArgumentException(e.getMessage());
-        }
-
+        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
-    public static boolean isValidName(String test) throws ParseException {
+    public static boolean isValidName(String test) {
+        return validate(test) == ValidationResult.VALID;
+    }
 
-        // Checks if the name is blank
-        if (test.trim().isEmpty()) {
-            throw new ParseException(MESSAGE_CONSTRAINTS_NO_BLANK_NAME);
+    /**
+     * Checks a given string against the name constraints in a single pass, returning the first constraint
+     * that is violated, or {@link ValidationResult#VALID} if there is none.
+     * <p>
+     * A valid name is not blank and contains at least one letter or digit. It is made up of only letters, marks
+     * such as accents, digits, spaces and the special characters {@code - ' ’ . /}. It does not start or end with a
+     * special character, and does not contain the same special character or space twice in a row.
+     */
+    public static ValidationResult validate(String test) {
+        requireNonNull(test);
+
+        boolean isBlank = true;
+        boolean hasLineTerminator = false;
+        boolean hasAlphanumeric = false;
+        boolean hasInvalidCharacter = false;
+        boolean hasConsecutiveSpecialCharacters = false;
+        int first = -1;
+        int previous = -1;
+        for (int i = 0; i < test.length(); i += Character.charCount(previous)) {
+            int c = test.codePointAt(i);
+            if (first == -1) {
+                first = c;
+            }
+
+            // Same as String#trim, which removes all characters up to and including the space character
+            isBlank &= c <= ' ';
+            hasLineTerminator |= isLineTerminator(c);
+            if (Character.isLetter(c) || isDigit(c)) {
+                hasAlphanumeric = true;
+            } else if (c == ' ' || isSpecialCharacter(c)) {
+                hasConsecutiveSpecialCharacters |= c == previous;
+            } else if (!isMark(c)) {
+                hasInvalidCharacter = true;
+            }
+            previous = c;
         }
 
-        // Checks if the name contains at least one alphabetic character
-        if (!test.matches(VALIDATION_REGEX_AT_LEAST_ONE_ALPHANUMERIC)) {
-            throw new ParseException(MESSAGE_CONSTRAINTS_AT_LEAST_ONE_ALPHANUMERIC);
+        if (isBlank) {
+            return ValidationResult.BLANK;
         }
-
-        // If the name does not satisfy the basic constraints
-        if (!test.matches(VALIDATION_REGEX_NAME_CONSTRAINTS)) {
-            throw new ParseException(MESSAGE_CONSTRAINTS);
+        if (hasLineTerminator || !hasAlphanumeric) {
+            return ValidationResult.NO_ALPHANUMERIC;
         }
-
-        // If the name starts or ends with a special character
-        if (test.matches(VALIDATION_REGEX_NO_SPECIAL_CHAR_START)
-                || test.matches(VALIDATION_REGEX_NO_SPECIAL_CHAR_END)) {
-            throw new ParseException(MESSAGE_CONSTRAINTS_INVALID_START_END);
+        if (hasInvalidCharacter) {
+            return ValidationResult.INVALID_CHARACTER;
         }
-
-        // If the name contains consecutive special characters
-        if (test.matches(VALIDATION_REGEX_NO_CONSECUTIVE_SPECIAL_CHAR)) {
-            throw new ParseException(MESSAGE_CONSTRAINTS_NO_CONSECUTIVE_SPECIAL_CHAR);
+        if (isSpecialCharacter(first) || isSpecialCharacter(previous)) {
+            return ValidationResult.INVALID_START_END;
+        }
+        if (hasConsecutiveSpecialCharacters) {
+            return ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS;
         }
+        return ValidationResult.VALID;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
 
-        return true;
+    private static boolean isSpecialCharacter(int c) {
+        return c == '-' || c == '\'' || c == '’' || c == '.' || c == '/';
+    }
+
+    private static boolean isMark(int c) {
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
 
+    /**
+     * Returns true if {@code c} ends a line, so a name containing it does not count as having any
+     * letters or digits, as the name is expected to be on a single line.
+     */
+    private static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 
     @Override
@@ -2,12 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.ParserUtil.parseParametersAndLabels;
-import static seedu.address.model.person.Person.LABEL_VALIDATION_REGEX;
+import static seedu.address.model.person.Person.LABEL_VALIDATION_PATTERN;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -25,6 +26,7 @@ public class OtherPhones {
     // Single phone number pattern
     private static final String SINGLE_PHONE_REGEX =
             "^\\s*(?:\\+\\d{1,3}\\s*)?\\d{3,}(?:\\s*x\\d+)?\\s*$";
+    private static final Pattern SINGLE_PHONE_PATTERN = Pattern.compile(SINGLE_PHONE_REGEX);
 
     private static final Logger logger = LogsCenter.getLogger(OtherPhones.class);
 
@@ -88,11 +90,11 @@ public class OtherPhones {
                 return false;
             }
 
-            if (checkPhone && !currString.matches(SINGLE_PHONE_REGEX)) {
+            if (checkPhone && !SINGLE_PHONE_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
-            if (!checkPhone && !currString.matches(LABEL_VALIDATION_REGEX)) {
+            if (!checkPhone && !LABEL_VALIDATION_PATTERN.matcher(currString).matches()) {
                 return false;
             }
 
@@ -121,7 +123,7 @@ public class OtherPhones {
                 OtherPhones.class.getName().toLowerCase(), otherPhones, false);
 
         for (String currPhone : paramsAndLabels) {
-            if (!currPhone.matches(SINGLE_PHONE_REGEX)) {
+            if (!SINGLE_PHONE_PATTERN.matcher(currPhone).matches()) {
                 continue;
             }
             if (mainPhone.equals(new Phone(currPhone))) {
@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.meeting.Meeting;
@@ -28,6 +29,7 @@ public class Person {
     // Can contain any alphanumerical characters, space, hyphen. But cannot be made up of space/hyphen only.
     private static final String ALPHANUMERIC_SPACE_HYPHEN = "(?=.*[a-zA-Z0-9])[a-zA-Z0-9 -]+";
     public static final String LABEL_VALIDATION_REGEX = "\\(" + ALPHANUMERIC_SPACE_HYPHEN + "\\)";
+    public static final Pattern LABEL_VALIDATION_PATTERN = Pattern.compile(LABEL_VALIDATION_REGEX);
 
     // Identity fields
     private final Name name;
@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A phone-keyed index is kept in sync with the internal list so that identity checks do not require a scan of
+ * every person in the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +34,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByPhone.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -46,6 +54,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByPhone.put(toAdd.getPhone(), toAdd);
     }
 
     /**
@@ -66,6 +75,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsByPhone.remove(target.getPhone());
+        personsByPhone.put(editedPerson.getPhone(), editedPerson);
     }
 
     /**
@@ -77,24 +88,29 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsByPhone.remove(toRemove.getPhone());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacement.personsByPhone);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every colliding phone if {@code persons} contains duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Phone, Person> replacementIndex = indexByPhone(persons);
 
         internalList.setAll(persons);
+        personsByPhone.clear();
+        personsByPhone.putAll(replacementIndex);
     }
 
     /**
@@ -135,16 +151,22 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a phone-keyed index of {@code persons}, built in a single pass.
+     *
+     * @throws DuplicatePersonException listing every colliding phone if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Phone, Person> indexByPhone(List<Person> persons) {
+        Map<Phone, Person> index = new HashMap<>();
+        Set<Phone> duplicatePhones = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getPhone(), person) != null) {
+                duplicatePhones.add(person.getPhone());
             }
         }
-        return true;
+
+        if (!duplicatePhones.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePhones);
+        }
+        return index;
     }
 }
@@ -1,11 +1,39 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Phone;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final Set<Phone> duplicatePhones;
+
+    /**
+     * Creates a {@code DuplicatePersonException} without recording the colliding phones.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicatePhones = Collections.emptySet();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} reporting the phone numbers shared by more than one person.
+     */
+    public DuplicatePersonException(Set<Phone> duplicatePhones) {
+        super("Operation would result in duplicate persons with phone(s): " + duplicatePhones);
+        this.duplicatePhones = Collections.unmodifiableSet(new LinkedHashSet<>(duplicatePhones));
+    }
+
+    /**
+     * Returns the phone numbers that collide, in the order they were first found to be duplicated.
+     * Empty if the colliding phones were not recorded.
+     */
+    public Set<Phone> getDuplicatePhones() {
+        return duplicatePhones;
     }
 }
@@ -0,0 +1,423 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes and decodes address books in a compact binary format.
+ * <p>
+ * The format consists of, in order:
+ * <ul>
+ *     <li>a header of the 4 byte {@link #MAGIC} followed by a 2 byte format version</li>
+ *     <li>a string table: the number of strings, then each distinct string as its length in bytes and its UTF-8
+ *     bytes</li>
+ *     <li>the number of persons, then each person as its length in bytes and a record of its fields</li>
+ * </ul>
+ * Every string field of a person is stored as a reference to the string table, so repeated values such as tags,
+ * venues and addresses are stored once. Meeting times are stored as minutes since the epoch, followed by the
+ * meeting's duration in minutes, which version 1 files lack, and how the meeting repeats, which version 1 and 2
+ * files lack.
+ * All counts, lengths and references are stored as variable-length integers.
+ */
+class BinaryAddressBookCodec {
+
+    public static final byte[] MAGIC = {'A', 'B', 'K', 'B'};
+    public static final int VERSION = 3;
+    public static final int VERSION_WITHOUT_DURATIONS = 1;
+    public static final int VERSION_WITHOUT_RECURRENCES = 2;
+
+    public static final String MESSAGE_NOT_BINARY = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    public static final String MESSAGE_INVALID_STRING_REFERENCE = "Invalid string table reference %d";
+    public static final String MESSAGE_TRUNCATED_RECORD = "Person record is truncated";
+    public static final String MESSAGE_TRUNCATED_STRING_TABLE = "String table is truncated";
+    public static final String MESSAGE_INVALID_FREQUENCY = "Invalid recurrence frequency %d";
+    public static final String MESSAGE_INVALID_DATE_TIME = "Invalid date and time %d";
+    public static final String MESSAGE_COUNT_TOO_LARGE = "Count %d is larger than the %d bytes left";
+    public static final String MESSAGE_CORRUPT = "Binary address book is corrupt: %s";
+
+    private static final int NULL_REFERENCE = 0;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final long MIN_EPOCH_MINUTE = Math.floorDiv(LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC), 60);
+    private static final long MAX_EPOCH_MINUTE = Math.floorDiv(LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC), 60);
+
+    private BinaryAddressBookCodec() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the binary address book header.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] magic = in.readNBytes(MAGIC.length);
+            return Arrays.equals(magic, MAGIC);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = buildStringTable(persons);
+
+        DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.write(MAGIC);
+        dataOut.writeShort(VERSION);
+
+        writeVarLong(dataOut, stringTable.size());
+        for (String string : stringTable.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(dataOut, bytes.length);
+            dataOut.write(bytes);
+        }
+
+        writeVarLong(dataOut, persons.size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(recordBytes);
+        for (Person person : persons) {
+            recordBytes.reset();
+            writePerson(recordOut, person, stringTable);
+            writeVarLong(dataOut, recordBytes.size());
+            recordBytes.writeTo(dataOut);
+        }
+        dataOut.flush();
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException if {@code in} cannot be read, is not in the binary format or is corrupt.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        try {
+            DataInputStream dataIn = new DataInputStream(in);
+            int version = readHeader(dataIn);
+            String[] strings = readStringTable(dataIn);
+
+            long personCount = readVarLong(dataIn);
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            for (long i = 0; i < personCount; i++) {
+                byte[] record = readBytes(dataIn, toCount(readVarLong(dataIn)), MESSAGE_TRUNCATED_RECORD);
+                persons.add(decodePerson(ByteBuffer.wrap(record), strings, version));
+            }
+            return new JsonSerializableAddressBook(persons).toModelType();
+        } catch (RuntimeException e) {
+            // Decoded values are checked as they are read, so this is a last line of defence against corrupt data
+            // crashing the caller rather than being reported as a file that cannot be loaded
+            throw new IOException(String.format(MESSAGE_CORRUPT, e), e);
+        }
+    }
+
+    /**
+     * Reads and checks the header from {@code in}, returning the format version.
+     */
+    static int readHeader(DataInputStream in) throws IOException {
+        byte[] magic = in.readNBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readUnsignedShort();
+        if (version < VERSION_WITHOUT_DURATIONS || version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    /**
+     * Reads the string table from {@code in}.
+     */
+    static String[] readStringTable(DataInputStream in) throws IOException {
+        long stringCount = readVarLong(in);
+        List<String> strings = new ArrayList<>();
+        for (long i = 0; i < stringCount; i++) {
+            byte[] bytes = readBytes(in, toCount(readVarLong(in)), MESSAGE_TRUNCATED_STRING_TABLE);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return strings.toArray(String[]::new);
+    }
+
+    /**
+     * Reads the next {@code length} bytes of {@code in}. The bytes are read in chunks, so a corrupt length larger
+     * than the rest of {@code in} fails at the end of {@code in} rather than allocating the whole length up front.
+     *
+     * @throws EOFException with {@code message} if {@code in} ends first.
+     */
+    private static byte[] readBytes(DataInputStream in, int length, String message) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException(message);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the persons' strings, each mapped to its position in the string table.
+     */
+    private static Map<String, Integer> buildStringTable(List<Person> persons) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            addString(stringTable, person.getName().fullName);
+            addString(stringTable, person.getPhone().value);
+            addString(stringTable, person.getOtherPhones().numbers);
+            addString(stringTable, person.getEmail().value);
+            addString(stringTable, person.getAddress().value);
+            for (Tag tag : person.getTags()) {
+                addString(stringTable, tag.tagName);
+            }
+            for (Meeting meeting : person.getMeetings()) {
+                addString(stringTable, meeting.getMeetingName().toString());
+                addString(stringTable, meeting.getVenue().toString());
+            }
+        }
+        return stringTable;
+    }
+
+    private static void addString(Map<String, Integer> stringTable, String string) {
+        if (string != null) {
+            stringTable.putIfAbsent(string, stringTable.size());
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(out, person.getName().fullName, stringTable);
+        writeString(out, person.getPhone().value, stringTable);
+        writeString(out, person.getOtherPhones().numbers, stringTable);
+        writeString(out, person.getEmail().value, stringTable);
+        writeString(out, person.getAddress().value, stringTable);
+        out.writeBoolean(person.isFlagged());
+
+        writeVarLong(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName, stringTable);
+        }
+
+        writeVarLong(out, person.getMeetings().size());
+        for (Meeting meeting : person.getMeetings()) {
+            writeString(out, meeting.getMeetingName().toString(), stringTable);
+            writeString(out, meeting.getVenue().toString(), stringTable);
+            writeDateTime(out, meeting.getDateTime());
+            writeVarLong(out, meeting.getDuration().minutes);
+            writeRecurrence(out, meeting.getRecurrence().orElse(null));
+        }
+    }
+
+    /**
+     * Writes {@code recurrence}, which is null for a meeting that does not repeat, as its frequency counting from 1,
+     * or 0 if there is none, followed by its count, or 0 and the date and time it repeats until.
+     */
+    private static void writeRecurrence(DataOutputStream out, Recurrence recurrence) throws IOException {
+        if (recurrence == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+
+        writeVarLong(out, recurrence.getFrequency().ordinal() + 1);
+        writeVarLong(out, recurrence.getCount().orElse(0));
+        if (recurrence.getUntil().isPresent()) {
+            writeDateTime(out, recurrence.getUntil().get());
+        }
+    }
+
+    private static JsonAdaptedRecurrence readRecurrence(ByteBuffer in) throws IOException {
+        long frequency = readVarLong(in);
+        if (frequency == 0) {
+            return null;
+        }
+        if (frequency < 0 || frequency > Recurrence.Frequency.values().length) {
+            throw new IOException(String.format(MESSAGE_INVALID_FREQUENCY, frequency));
+        }
+
+        String frequencyName = Recurrence.Frequency.values()[(int) frequency - 1].toString();
+        int count = toInt(readVarLong(in), "Count");
+        return count == 0
+                ? new JsonAdaptedRecurrence(frequencyName, null, readDateTime(in))
+                : new JsonAdaptedRecurrence(frequencyName, count, null);
+    }
+
+    /**
+     * Decodes the person record in {@code record}, in the given format {@code version}, into a
+     * {@code JsonAdaptedPerson}, which is yet to be validated.
+     */
+    static JsonAdaptedPerson decodePerson(ByteBuffer record, String[] strings, int version) throws IOException {
+        String name = readString(record, strings);
+        String phone = readString(record, strings);
+        String otherPhones = readString(record, strings);
+        String email = readString(record, strings);
+        String address = readString(record, strings);
+        boolean isFlagged = readBoolean(record);
+
+        int tagCount = readCount(record);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(record, strings)));
+        }
+
+        int meetingCount = readCount(record);
+        List<JsonAdaptedMeeting> meetings = new ArrayList<>(meetingCount);
+        for (int i = 0; i < meetingCount; i++) {
+            String meetingName = readString(record, strings);
+            String venue = readString(record, strings);
+            LocalDateTime when = readDateTime(record);
+            Integer duration = version == VERSION_WITHOUT_DURATIONS ? null : toInt(readVarLong(record), "Duration");
+            JsonAdaptedRecurrence recurrence = version <= VERSION_WITHOUT_RECURRENCES ? null : readRecurrence(record);
+            meetings.add(new JsonAdaptedMeeting(meetingName, venue, when, duration, recurrence));
+        }
+
+        return new JsonAdaptedPerson(name, phone, otherPhones, email, address, tags, meetings, isFlagged);
+    }
+
+    private static boolean readBoolean(ByteBuffer in) throws IOException {
+        if (!in.hasRemaining()) {
+            throw new EOFException(MESSAGE_TRUNCATED_RECORD);
+        }
+        return in.get() != 0;
+    }
+
+    private static void writeString(DataOutputStream out, String string, Map<String, Integer> stringTable)
+            throws IOException {
+        writeVarLong(out, string == null ? NULL_REFERENCE : stringTable.get(string) + 1);
+    }
+
+    private static String readString(ByteBuffer in, String[] strings) throws IOException {
+        long reference = readVarLong(in);
+        if (reference == NULL_REFERENCE) {
+            return null;
+        }
+        if (reference < 0 || reference > strings.length) {
+            throw new IOException(String.format(MESSAGE_INVALID_STRING_REFERENCE, reference));
+        }
+        return strings[(int) reference - 1];
+    }
+
+    /**
+     * Writes {@code dateTime} as its minutes since the epoch. The lowest bit of the value written marks whether
+     * {@code dateTime} has seconds, in which case the nanoseconds into the minute follow.
+     */
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        long epochMinute = Math.floorDiv(epochSecond, 60);
+        long nanoOfMinute = Math.floorMod(epochSecond, 60) * 1_000_000_000L + dateTime.getNano();
+        boolean hasSeconds = nanoOfMinute != 0;
+
+        writeVarLong(out, (zigZagEncode(epochMinute) << 1) | (hasSeconds ? 1 : 0));
+        if (hasSeconds) {
+            writeVarLong(out, nanoOfMinute);
+        }
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) throws IOException {
+        long value = readVarLong(in);
+        long epochMinute = zigZagDecode(value >>> 1);
+        long nanoOfMinute = (value & 1) == 0 ? 0 : readVarLong(in);
+        if (epochMinute < MIN_EPOCH_MINUTE || epochMinute > MAX_EPOCH_MINUTE
+                || nanoOfMinute < 0 || nanoOfMinute >= NANOS_PER_MINUTE) {
+            throw new IOException(String.format(MESSAGE_INVALID_DATE_TIME, value));
+        }
+        return LocalDateTime.ofEpochSecond(epochMinute * 60 + nanoOfMinute / 1_000_000_000L,
+                (int) (nanoOfMinute % 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the stored duration {@code value}, which is only checked to fit in an {@code Integer} here, as it is
+     * validated along with the rest of the meeting.
+     */
+    private static int toInt(long value, String name) throws IOException {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException(name + " " + value + " is too large");
+        }
+        return (int) value;
+    }
+
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as possible, 7 bits per byte,
+     * with the highest bit of each byte marking whether more bytes follow.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            if (!in.hasRemaining()) {
+                throw new EOFException(MESSAGE_TRUNCATED_RECORD);
+            }
+            int b = in.get() & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Reads a count of items, or a length in bytes, that follow in {@code in}. As every item takes at least one byte,
+     * a count larger than the bytes left is corrupt, and is rejected before anything is allocated for it.
+     */
+    static int readCount(ByteBuffer in) throws IOException {
+        int count = toCount(readVarLong(in));
+        if (count > in.remaining()) {
+            throw new EOFException(String.format(MESSAGE_COUNT_TOO_LARGE, count, in.remaining()));
+        }
+        return count;
+    }
+
+    private static int toCount(long value) throws IOException {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Count " + value + " is too large");
+        }
+        return (int) value;
+    }
+
+}
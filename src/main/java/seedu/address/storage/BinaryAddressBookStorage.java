@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * @see BinaryAddressBookCodec
+ */
+public class BinaryAddressBookStorage extends FileAddressBookStorage {
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param backupCount number of previous versions of the data file to keep, which are loaded instead if the data
+     *     file is missing or cannot be loaded.
+     */
+    public BinaryAddressBookStorage(Path filePath, int backupCount) {
+        super(filePath, backupCount);
+    }
+
+    @Override
+    protected void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        BinaryAddressBookCodec.write(addressBook, out);
+    }
+
+}
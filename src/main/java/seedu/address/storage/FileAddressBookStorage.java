@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a single file on the hard disk, along with backups of previous
+ * versions of the file. Subclasses decide the format the file is written in.
+ * <p>
+ * Files in any of the supported formats can be read, whichever format the subclass writes, so switching between
+ * formats converts the data file the next time it is saved.
+ */
+public abstract class FileAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int backupCount;
+
+    /**
+     * Creates a {@code FileAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param backupCount number of previous versions of the data file to keep, which are loaded instead if the data
+     *     file is missing or cannot be loaded.
+     */
+    protected FileAddressBookStorage(Path filePath, int backupCount) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the data file is missing or cannot be loaded, its most recent backup that can be loaded is used instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        DataLoadingException dataFileException;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+            dataFileException = null;
+        } catch (DataLoadingException dle) {
+            dataFileException = dle;
+        }
+
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, generation);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(backupFilePath);
+                if (addressBook.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be loaded, using backup " + backupFilePath);
+                    return addressBook;
+                }
+            } catch (DataLoadingException dle) {
+                logger.warning("Backup file " + backupFilePath + " could not be loaded");
+            }
+        }
+
+        if (dataFileException != null) {
+            throw dataFileException;
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookCodec.isBinaryFile(filePath)
+                    ? readBinaryFile(filePath)
+                    : JsonAddressBookStreamReader.read(filePath).getAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static AddressBook readBinaryFile(Path filePath) throws IOException, IllegalValueException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return BinaryAddressBookCodec.read(in);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, and the version it replaces is kept as a backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFile(filePath, out -> writeAddressBook(addressBook, out), backupCount);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format of this storage, without closing {@code out}.
+     */
+    protected abstract void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,399 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with an append-only journal of changes.
+ * <p>
+ * Instead of rewriting the whole data file, each save appends the changes made to the address book since the previous
+ * save to the journal, one compact json entry per line. Once the journal grows past the compaction threshold, a
+ * background thread folds it into a new snapshot of the data file. Reading replays the journal on top of the snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    // Written as a single byte, so an incomplete last entry can be found by looking for it.
+    private static final char JOURNAL_LINE_SEPARATOR = '\n';
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guards reads and writes of journal files, which are shared with the compactor thread.
+    private final Object journalLock = new Object();
+
+    private final ListChangeListener<Person> changeRecorder = this::recordChanges;
+    private final List<JsonAdaptedPersonChange> pendingChanges = new ArrayList<>();
+    private ObservableList<Person> trackedPersons;
+    private Path trackedFilePath;
+    private boolean isSnapshotRequired = true;
+    private long lastSequence = 0;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} for the data file at {@code filePath}.
+     *
+     * @param compactionThreshold size in bytes the journal may grow to before it is folded into the data file.
+     */
+    public JournaledAddressBookStorage(Path filePath, long compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that accompanies the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        AddressBook addressBook;
+        long replayedSequence;
+        synchronized (journalLock) {
+            boolean hasSnapshot = Files.exists(filePath);
+            if (!hasSnapshot && !Files.exists(journalFilePath)) {
+                return Optional.empty();
+            }
+
+            try {
+                long snapshotSequence = 0;
+                addressBook = new AddressBook();
+                if (hasSnapshot) {
+                    JsonAddressBookStreamReader snapshot = JsonAddressBookStreamReader.read(filePath);
+                    addressBook = snapshot.getAddressBook();
+                    snapshotSequence = snapshot.getJournalSequence();
+                }
+                replayedSequence = replayJournal(addressBook, snapshotSequence, journalFilePath);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            } catch (IOException ioe) {
+                logger.warning("Error reading from " + filePath + " or its journal: " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+        }
+
+        // Updated outside of journalLock, which saves acquire while holding this object's lock
+        synchronized (this) {
+            lastSequence = Math.max(lastSequence, replayedSequence);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies every entry in the journal at {@code journalFilePath} newer than {@code snapshotSequence} to
+     * {@code addressBook}, and returns the sequence number of the last entry in the journal.
+     * An incomplete last entry, left behind if the application stopped while appending to the journal, is ignored.
+     */
+    private long replayJournal(AddressBook addressBook, long snapshotSequence, Path journalFilePath)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return snapshotSequence;
+        }
+
+        Map<Phone, Person> personsByPhone = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> personsByPhone.put(person.getPhone(), person));
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        long sequence = snapshotSequence;
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedPersonChange change;
+            try {
+                change = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPersonChange.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    break;
+                }
+                throw ioe;
+            }
+
+            if (change.getSequence() <= snapshotSequence) {
+                continue;
+            }
+            change.applyTo(addressBook, personsByPhone);
+            sequence = change.getSequence();
+        }
+        return sequence;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The first save of an address book to a file writes a full snapshot; later saves of the same address book
+     * to the same file append only the changes made since the previous save to the journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (addressBook.getPersonList() != trackedPersons || !filePath.equals(trackedFilePath)) {
+            track(addressBook.getPersonList(), filePath);
+        }
+
+        if (isSnapshotRequired) {
+            awaitSnapshot(addressBook, filePath);
+            isSnapshotRequired = false;
+            pendingChanges.clear();
+            return;
+        }
+
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        long journalSize = appendToJournal(pendingChanges, journalFilePath);
+        pendingChanges.clear();
+
+        if (journalSize > compactionThreshold) {
+            logger.fine("Journal " + journalFilePath + " passed " + compactionThreshold + " bytes, compacting");
+            scheduleSnapshot(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Starts recording changes made to {@code persons}, to be saved to the data file at {@code filePath}.
+     */
+    private void track(ObservableList<Person> persons, Path filePath) {
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeRecorder);
+        }
+        trackedPersons = persons;
+        trackedFilePath = filePath;
+        trackedPersons.addListener(changeRecorder);
+        isSnapshotRequired = true;
+        pendingChanges.clear();
+    }
+
+    /**
+     * Records {@code change} as journal entries to be appended on the next save.
+     * Changes that touch more than one person at once, such as resetting the whole address book, are saved as a
+     * snapshot instead.
+     */
+    private synchronized void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next() && !isSnapshotRequired) {
+            if (change.wasPermutated() || change.getRemovedSize() > 1 || change.getAddedSize() > 1) {
+                isSnapshotRequired = true;
+                pendingChanges.clear();
+            } else if (change.wasReplaced()) {
+                pendingChanges.add(JsonAdaptedPersonChange.set(++lastSequence,
+                        change.getRemoved().get(0), change.getAddedSubList().get(0)));
+            } else if (change.wasAdded()) {
+                pendingChanges.add(JsonAdaptedPersonChange.add(++lastSequence, change.getAddedSubList().get(0)));
+            } else if (change.wasRemoved()) {
+                pendingChanges.add(JsonAdaptedPersonChange.remove(++lastSequence, change.getRemoved().get(0)));
+            }
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal at {@code journalFilePath} and returns the resulting size of the journal.
+     * The journal is forced to disk before returning, so the changes survive a crash once the save has completed.
+     * An incomplete last entry is cut off first, so the new entries start on a line of their own.
+     */
+    private long appendToJournal(List<JsonAdaptedPersonChange> changes, Path journalFilePath) throws IOException {
+        StringBuilder entries = new StringBuilder();
+        for (JsonAdaptedPersonChange change : changes) {
+            entries.append(JsonUtil.toCompactJsonString(change)).append(JOURNAL_LINE_SEPARATOR);
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(entries.toString().getBytes(StandardCharsets.UTF_8));
+
+        synchronized (journalLock) {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                channel.position(cutIncompleteEntry(channel, journalFilePath));
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(false);
+                return channel.size();
+            }
+        }
+    }
+
+    /**
+     * Truncates the journal open in {@code channel} after its last line separator, dropping an incomplete last entry
+     * left behind if the application stopped while appending, and returns the resulting size of the journal.
+     */
+    private static long cutIncompleteEntry(FileChannel channel, Path journalFilePath) throws IOException {
+        long size = channel.size();
+        if (size == 0 || endsWithLineSeparator(channel, size)) {
+            return size;
+        }
+
+        byte[] content = Files.readAllBytes(journalFilePath);
+        int end = content.length;
+        while (end > 0 && content[end - 1] != JOURNAL_LINE_SEPARATOR) {
+            end--;
+        }
+        logger.warning("Dropping incomplete last entry of journal " + journalFilePath);
+        channel.truncate(end);
+        return end;
+    }
+
+    private static boolean endsWithLineSeparator(FileChannel channel, long size) throws IOException {
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        channel.read(lastByte, size - 1);
+        return lastByte.get(0) == JOURNAL_LINE_SEPARATOR;
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook} to {@code filePath} and waits for it to complete.
+     */
+    private void awaitSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        try {
+            scheduleSnapshot(addressBook, filePath).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving " + filePath, ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Captures the current contents of {@code addressBook} and schedules them to be written as a snapshot to
+     * {@code filePath} by the compactor thread, after which the journal entries folded into the snapshot are dropped.
+     * Snapshots are written one at a time in the order they are scheduled.
+     */
+    private Future<?> scheduleSnapshot(ReadOnlyAddressBook addressBook, Path filePath) {
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook, lastSequence);
+        return compactor.submit(() -> {
+            writeSnapshot(snapshot, filePath);
+            return null;
+        });
+    }
+
+    private void writeSnapshot(JsonSerializableAddressBook snapshot, Path filePath) throws IOException {
+        try {
+            JsonUtil.saveJsonFile(snapshot, filePath, 0, false);
+            trimJournal(getJournalFilePath(filePath), snapshot.getJournalSequence());
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Failed to write snapshot " + filePath + ": " + e);
+            throw e instanceof IOException ? (IOException) e : new IOException(e);
+        }
+    }
+
+    /**
+     * Drops every entry in the journal at {@code journalFilePath} up to and including {@code sequence}.
+     * Entries appended while the snapshot was being written are kept. An incomplete last entry is dropped, as it
+     * is when the journal is replayed.
+     * The trimmed journal atomically replaces the journal, so no entries are lost if trimming fails part way.
+     */
+    private void trimJournal(Path journalFilePath, long sequence) throws IOException, IllegalValueException {
+        synchronized (journalLock) {
+            if (!Files.exists(journalFilePath)) {
+                return;
+            }
+
+            List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+            StringBuilder remainingLines = new StringBuilder();
+            for (int i = 0; i < lines.size(); i++) {
+                JsonAdaptedPersonChange change;
+                try {
+                    change = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedPersonChange.class);
+                } catch (IOException ioe) {
+                    if (i == lines.size() - 1) {
+                        logger.warning("Dropping incomplete last entry of journal " + journalFilePath);
+                        break;
+                    }
+                    throw ioe;
+                }
+
+                if (change.getSequence() > sequence) {
+                    remainingLines.append(lines.get(i)).append(JOURNAL_LINE_SEPARATOR);
+                }
+            }
+
+            if (remainingLines.length() == 0) {
+                Files.delete(journalFilePath);
+            } else {
+                FileUtil.writeToFile(journalFilePath, remainingLines.toString());
+            }
+        }
+    }
+
+    /**
+     * Waits for every snapshot scheduled so far to be written.
+     */
+    void awaitCompaction() throws IOException {
+        try {
+            compactor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for journal compaction", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+}
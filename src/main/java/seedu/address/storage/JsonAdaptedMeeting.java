@@ -3,11 +3,14 @@ package seedu.address.storage;
 import java.time.LocalDateTime;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 
@@ -20,16 +23,42 @@ public class JsonAdaptedMeeting {
     public final String meetingName;
     public final String venue;
     public final LocalDateTime when;
+    public final Integer duration;
+    // Absent for meetings that do not repeat
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public final JsonAdaptedRecurrence recurrence;
 
     /**
-     * Constructs a {@code JsonAdaptedMeeting} with the given {@code meetingName}, {@code venue}, and {@code when}.
+     * Constructs a {@code JsonAdaptedMeeting} with the given {@code meetingName}, {@code venue}, {@code when},
+     * {@code duration} in minutes and {@code recurrence}. A missing {@code duration}, as in data saved before meetings
+     * had durations, is read as {@link MeetingDuration#DEFAULT}, and a missing {@code recurrence} as a meeting that
+     * does not repeat.
      */
     @JsonCreator
     public JsonAdaptedMeeting(@JsonProperty("meetingName") String meetingName, @JsonProperty("venue") String venue,
-                              @JsonProperty("when") LocalDateTime when) {
+                              @JsonProperty("when") LocalDateTime when, @JsonProperty("duration") Integer duration,
+                              @JsonProperty("recurrence") JsonAdaptedRecurrence recurrence) {
         this.meetingName = meetingName;
         this.venue = venue;
         this.when = when;
+        this.duration = duration;
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedMeeting} that does not repeat with the given {@code meetingName},
+     * {@code venue}, {@code when} and {@code duration} in minutes.
+     */
+    public JsonAdaptedMeeting(String meetingName, String venue, LocalDateTime when, Integer duration) {
+        this(meetingName, venue, when, duration, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedMeeting} with the given {@code meetingName}, {@code venue}, and {@code when},
+     * and no duration.
+     */
+    public JsonAdaptedMeeting(String meetingName, String venue, LocalDateTime when) {
+        this(meetingName, venue, when, null, null);
     }
 
     /**
@@ -39,6 +68,8 @@ public class JsonAdaptedMeeting {
         this.meetingName = source.getMeetingName().toString();
         this.venue = source.getVenue().toString();
         this.when = source.getDateTime();
+        this.duration = source.getDuration().minutes;
+        this.recurrence = source.getRecurrence().map(JsonAdaptedRecurrence::new).orElse(null);
     }
 
     /**
@@ -72,6 +103,21 @@ public class JsonAdaptedMeeting {
             throw new IllegalValueException(When.MESSAGE_CONSTRAINTS);
         }
         final When modelWhen = new When(this.when);
-        return new Meeting(modelMeetingName, modelVenue, modelWhen);
+
+        if (this.duration != null && !MeetingDuration.isValidDuration(this.duration)) {
+            throw new IllegalValueException(MeetingDuration.MESSAGE_CONSTRAINTS);
+        }
+        final MeetingDuration modelDuration = this.duration == null
+                ? MeetingDuration.DEFAULT
+                : new MeetingDuration(this.duration);
+
+        if (this.recurrence == null) {
+            return new Meeting(modelMeetingName, modelVenue, modelWhen, modelDuration);
+        }
+        final Recurrence modelRecurrence = this.recurrence.toModelType();
+        if (!Meeting.isValidRecurrence(modelWhen, modelRecurrence)) {
+            throw new IllegalValueException(Meeting.MESSAGE_RECURRENCE_CONSTRAINTS);
+        }
+        return new Meeting(modelMeetingName, modelVenue, modelWhen, modelDuration, modelRecurrence);
     }
 }
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Jackson-friendly version of a single change made to the persons of an address book, as recorded in a journal.
+ * Persons are identified by their {@link Phone}, which is unique within an address book.
+ */
+class JsonAdaptedPersonChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Journal entry %d refers to a missing person with phone %s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal entry %d adds a duplicate person with phone %s";
+
+    /**
+     * Kinds of changes that can be recorded.
+     */
+    enum Type {
+        ADD, SET, REMOVE
+    }
+
+    private final Long sequence;
+    private final Type type;
+    private final String phone;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonChange(@JsonProperty("sequence") Long sequence, @JsonProperty("type") Type type,
+            @JsonProperty("phone") String phone, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.sequence = sequence;
+        this.type = type;
+        this.phone = phone;
+        this.person = person;
+    }
+
+    /**
+     * Returns a change that appends {@code added} to the end of the person list.
+     */
+    public static JsonAdaptedPersonChange add(long sequence, Person added) {
+        requireNonNull(added);
+        return new JsonAdaptedPersonChange(sequence, Type.ADD, null, new JsonAdaptedPerson(added));
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static JsonAdaptedPersonChange set(long sequence, Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new JsonAdaptedPersonChange(sequence, Type.SET, target.getPhone().value,
+                new JsonAdaptedPerson(editedPerson));
+    }
+
+    /**
+     * Returns a change that removes {@code removed} from the person list.
+     */
+    public static JsonAdaptedPersonChange remove(long sequence, Person removed) {
+        requireNonNull(removed);
+        return new JsonAdaptedPersonChange(sequence, Type.REMOVE, removed.getPhone().value, null);
+    }
+
+    /**
+     * Returns the sequence number of this change.
+     *
+     * @throws IllegalValueException if the sequence number is missing.
+     */
+    public long getSequence() throws IllegalValueException {
+        if (sequence == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "sequence"));
+        }
+        return sequence;
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @param personsByPhone the persons of {@code addressBook} keyed by phone, which is kept up to date.
+     * @throws IllegalValueException if this change is malformed or cannot be applied to {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook, Map<Phone, Person> personsByPhone) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case ADD:
+            Person added = toModelPerson();
+            if (personsByPhone.containsKey(added.getPhone())) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, getSequence(),
+                        added.getPhone()));
+            }
+            addressBook.addPerson(added);
+            personsByPhone.put(added.getPhone(), added);
+            break;
+        case SET:
+            Person target = findTarget(personsByPhone);
+            Person editedPerson = toModelPerson();
+            if (!target.isSamePerson(editedPerson) && personsByPhone.containsKey(editedPerson.getPhone())) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, getSequence(),
+                        editedPerson.getPhone()));
+            }
+            addressBook.setPerson(target, editedPerson);
+            personsByPhone.remove(target.getPhone());
+            personsByPhone.put(editedPerson.getPhone(), editedPerson);
+            break;
+        case REMOVE:
+            Person removed = findTarget(personsByPhone);
+            addressBook.removePerson(removed);
+            personsByPhone.remove(removed.getPhone());
+            break;
+        default:
+            throw new IllegalStateException("Unhandled journal entry type: " + type);
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Person findTarget(Map<Phone, Person> personsByPhone) throws IllegalValueException {
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "phone"));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+
+        Person target = personsByPhone.get(new Phone(phone));
+        if (target == null) {
+            throw new IllegalValueException(String.format(MESSAGE_PERSON_NOT_FOUND, getSequence(), phone));
+        }
+        return target;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the model's {@code Person}s on multiple threads.
+ * <p>
+ * The persons are split into chunks that are converted in parallel on the common {@link ForkJoinPool}.
+ * The converted persons are returned in their original order, and if any person is invalid, the first
+ * invalid person in that order is reported, no matter which thread finishes first.
+ */
+class JsonAdaptedPersonConverter {
+
+    public static final String MESSAGE_INVALID_PERSON = "Person %d in the persons list is invalid: %s";
+
+    // Chunks smaller than this are converted on a single thread, as splitting them further costs more than it saves.
+    private static final int CHUNK_SIZE = 64;
+
+    private JsonAdaptedPersonConverter() {}
+
+    /**
+     * Converts {@code persons} into the model's {@code Person}s, in the same order.
+     *
+     * @param firstPosition the position in the persons list of the first of {@code persons}, counting from 1,
+     *     used to report the position of an invalid person.
+     * @throws IllegalValueException if any of {@code persons} violates data constraints.
+     */
+    public static List<Person> convert(List<JsonAdaptedPerson> persons, int firstPosition)
+            throws IllegalValueException {
+        Person[] converted = new Person[persons.size()];
+        IllegalValueException[] errors = new IllegalValueException[persons.size()];
+        ForkJoinPool.commonPool().invoke(new ConversionTask(persons, converted, errors, 0, persons.size()));
+
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] != null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, firstPosition + i,
+                        errors[i].getMessage()), errors[i]);
+            }
+        }
+        return Arrays.asList(converted);
+    }
+
+    /**
+     * Converts the persons in the range [{@code from}, {@code to}), storing each result or error at the
+     * same index as the person.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized; RecursiveAction is only Serializable by inheritance
+    private static class ConversionTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> persons;
+        private final Person[] converted;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task that converts the persons in the range [{@code from}, {@code to}).
+         */
+        ConversionTask(List<JsonAdaptedPerson> persons, Person[] converted, IllegalValueException[] errors,
+                int from, int to) {
+            this.persons = persons;
+            this.converted = converted;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        converted[i] = persons.get(i).toModelType();
+                    } catch (IllegalValueException ive) {
+                        errors[i] = ive;
+                    }
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConversionTask(persons, converted, errors, from, mid),
+                    new ConversionTask(persons, converted, errors, mid, to));
+        }
+    }
+
+}
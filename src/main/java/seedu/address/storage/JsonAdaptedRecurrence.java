@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.meeting.Recurrence;
+
+/**
+ * Jackson-friendly version of {@link Recurrence}.
+ */
+class JsonAdaptedRecurrence {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Recurrence's %s field is missing!";
+
+    public final String frequency;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public final Integer count;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public final LocalDateTime until;
+
+    /**
+     * Constructs a {@code JsonAdaptedRecurrence} with the given {@code frequency} and either a {@code count} of
+     * occurrences or the date and time it repeats {@code until}.
+     */
+    @JsonCreator
+    public JsonAdaptedRecurrence(@JsonProperty("frequency") String frequency, @JsonProperty("count") Integer count,
+                                 @JsonProperty("until") LocalDateTime until) {
+        this.frequency = frequency;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * Converts a given {@code Recurrence} into this class for Jackson use.
+     */
+    public JsonAdaptedRecurrence(Recurrence source) {
+        this.frequency = source.getFrequency().toString();
+        this.count = source.getCount().orElse(null);
+        this.until = source.getUntil().orElse(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted recurrence object into the model's {@code Recurrence} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted recurrence.
+     */
+    public Recurrence toModelType() throws IllegalValueException {
+        if (frequency == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "frequency"));
+        }
+        Optional<Recurrence.Frequency> modelFrequency = Recurrence.parseFrequency(frequency);
+        if (modelFrequency.isEmpty()) {
+            throw new IllegalValueException(Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+        }
+
+        if ((count == null) == (until == null)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_CONSTRAINTS);
+        }
+        if (until != null) {
+            return new Recurrence(modelFrequency.get(), until);
+        }
+        if (!Recurrence.isValidCount(count)) {
+            throw new IllegalValueException(Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        }
+        return new Recurrence(modelFrequency.get(), count);
+    }
+
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Reads an address book saved in the format of {@link JsonSerializableAddressBook} one batch of persons at a time.
+ * Each batch is converted into the model's {@code Person}s in parallel as soon as it is parsed, so only one batch's
+ * json data is held in memory at any time, rather than the whole file.
+ */
+class JsonAddressBookStreamReader {
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final AddressBook addressBook = new AddressBook();
+    private long journalSequence = 0;
+
+    private JsonAddressBookStreamReader() {}
+
+    /**
+     * Reads the address book in the file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static JsonAddressBookStreamReader read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            reader.readAddressBook(parser);
+        }
+        return reader;
+    }
+
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    /**
+     * @see JsonSerializableAddressBook#getJournalSequence()
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private void readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case "persons":
+                readPersons(parser, valueToken);
+                break;
+            case "journalSequence":
+                journalSequence = valueToken == JsonToken.VALUE_NULL ? 0 : parser.getLongValue();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+
+        expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+    }
+
+    private void readPersons(JsonParser parser, JsonToken valueToken) throws IOException, IllegalValueException {
+        if (valueToken == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, valueToken, JsonToken.START_ARRAY);
+
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        Set<Phone> duplicatePhones = new LinkedHashSet<>();
+        int batchPosition = 1;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                addPersons(batch, batchPosition, duplicatePhones);
+                batchPosition += batch.size();
+                batch.clear();
+            }
+        }
+        expect(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+        addPersons(batch, batchPosition, duplicatePhones);
+
+        if (!duplicatePhones.isEmpty()) {
+            throw new IllegalValueException(String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PHONES,
+                    duplicatePhones.stream().map(Phone::toString).collect(Collectors.joining(", "))));
+        }
+    }
+
+    /**
+     * Converts {@code batch} and adds the persons to the address book in order, recording the phones of persons
+     * that duplicate one already added in {@code duplicatePhones}.
+     */
+    private void addPersons(List<JsonAdaptedPerson> batch, int batchPosition, Set<Phone> duplicatePhones)
+            throws IllegalValueException {
+        for (Person person : JsonAdaptedPersonConverter.convert(batch, batchPosition)) {
+            if (addressBook.hasPerson(person)) {
+                duplicatePhones.add(person.getPhone());
+            } else {
+                addressBook.addPerson(person);
+            }
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an address book in the format of {@link JsonSerializableAddressBook} one person at a time.
+ * Each person is converted into json data just before it is written, so neither the json data of the whole
+ * address book nor the file content is held in memory at once.
+ */
+class JsonAddressBookStreamWriter {
+
+    private JsonAddressBookStreamWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing {@code out}.
+     *
+     * @param isPrettyPrinted whether the json data is indented over multiple lines, rather than written on one line.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+}
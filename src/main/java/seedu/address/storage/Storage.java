@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Waits for every address book saved so far to be written to storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler that is passed any failure to write an address book that happens after its save has returned.
+     * Does nothing by default, as storage that writes an address book before its save returns throws the failure
+     * from the save instead.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> handler) {}
+
 }
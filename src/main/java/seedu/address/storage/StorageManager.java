@@ -20,6 +20,11 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // The last address book successfully saved, used to skip saves when nothing has changed since.
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private Path lastSavedFilePath;
+    private long lastSavedModificationCount;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -69,10 +74,35 @@ public class StorageManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Does nothing if {@code addressBook} has not been modified since it was last saved to {@code filePath}.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (isUnchangedSinceLastSave(addressBook, filePath)) {
+            logger.fine("Data file is up to date, skipping write: " + filePath);
+            return;
+        }
+
         logger.fine("Attempting to write to data file: " + filePath);
+        long modificationCount = addressBook.getModificationCount();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+
+        lastSavedAddressBook = addressBook;
+        lastSavedFilePath = filePath;
+        lastSavedModificationCount = modificationCount;
+    }
+
+    @Override
+    public void flush() {
+        // Address books are written before saveAddressBook returns, so there is nothing to wait for.
+    }
+
+    private boolean isUnchangedSinceLastSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBook == lastSavedAddressBook
+                && filePath.equals(lastSavedFilePath)
+                && addressBook.getModificationCount() == lastSavedModificationCount;
     }
 
 }
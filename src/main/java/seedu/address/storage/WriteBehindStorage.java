@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Wraps a {@code Storage} so that address books are saved on a background thread instead of the caller's.
+ * <p>
+ * Saving takes a snapshot of the address book and returns immediately. The snapshot is written once the max delay
+ * has passed since the first unwritten save; any saves requested in the meantime replace the pending snapshot, so a
+ * burst of changes is written to disk only once. A failure to write is logged and passed to the
+ * save failure handler as soon as it happens.
+ * <p>
+ * Flushing writes the pending snapshots and shuts the background thread down; any later saves are written straight
+ * away.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final long maxDelay;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Snapshots waiting to be written, by the file they are to be written to.
+    private final Map<Path, ReadOnlyAddressBook> pendingSnapshots = new LinkedHashMap<>();
+    private boolean isWriteScheduled = false;
+    private volatile Consumer<IOException> saveFailureHandler = failure -> {};
+
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private Path lastSavedFilePath;
+    private long lastSavedModificationCount;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes address books to {@code storage}.
+     *
+     * @param maxDelay longest time in milliseconds a save may wait before it is written.
+     */
+    public WriteBehindStorage(Storage storage, long maxDelay) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.maxDelay = maxDelay;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be written to {@code filePath} in the background.
+     * Does nothing if {@code addressBook} has not been modified since it was last saved to {@code filePath}.
+     * Once this storage has been flushed, {@code addressBook} is written straight away instead.
+     *
+     * @throws IOException if this storage has been flushed and {@code addressBook} failed to be written.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isUnchangedSinceLastSave(addressBook, filePath)) {
+            return;
+        }
+
+        if (writer.isShutdown()) {
+            storage.saveAddressBook(addressBook, filePath);
+        } else {
+            pendingSnapshots.put(filePath, snapshotOf(addressBook));
+            if (!isWriteScheduled) {
+                writer.schedule(this::writeScheduledSnapshots, maxDelay, TimeUnit.MILLISECONDS);
+                isWriteScheduled = true;
+            }
+        }
+        lastSavedAddressBook = addressBook;
+        lastSavedFilePath = filePath;
+        lastSavedModificationCount = addressBook.getModificationCount();
+    }
+
+    /**
+     * Sets the handler that is passed each failure to write a snapshot in the background.
+     * It is called on the background thread.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Writes every pending snapshot, waits for the writes to complete, then shuts the background thread down.
+     *
+     * @throws IOException if a pending snapshot failed to be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        Future<IOException> finalWrite;
+        synchronized (this) {
+            if (writer.isShutdown()) {
+                storage.flush();
+                return;
+            }
+            finalWrite = writer.submit(this::writePendingSnapshots);
+            writer.shutdown();
+        }
+
+        IOException failure;
+        try {
+            failure = finalWrite.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving address book", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flush();
+    }
+
+    private boolean isUnchangedSinceLastSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBook == lastSavedAddressBook
+                && filePath.equals(lastSavedFilePath)
+                && addressBook.getModificationCount() == lastSavedModificationCount;
+    }
+
+    /**
+     * Writes the pending snapshots to {@code storage} once the max delay has passed, passing any failure to the
+     * save failure handler. Runs on the writer thread.
+     */
+    private void writeScheduledSnapshots() {
+        IOException failure = writePendingSnapshots();
+        if (failure != null) {
+            saveFailureHandler.accept(failure);
+        }
+    }
+
+    /**
+     * Writes the pending snapshots to {@code storage}, returning the last failure to write one, if any.
+     * Runs on the writer thread.
+     */
+    private IOException writePendingSnapshots() {
+        Map<Path, ReadOnlyAddressBook> snapshots;
+        synchronized (this) {
+            snapshots = new LinkedHashMap<>(pendingSnapshots);
+            pendingSnapshots.clear();
+            isWriteScheduled = false;
+        }
+
+        IOException failure = null;
+        for (Map.Entry<Path, ReadOnlyAddressBook> entry : snapshots.entrySet()) {
+            try {
+                storage.saveAddressBook(entry.getValue(), entry.getKey());
+            } catch (IOException ioe) {
+                logger.warning("Failed to save address book to " + entry.getKey() + ": " + ioe);
+                failure = ioe;
+                synchronized (this) {
+                    // Lets the next save of the same data try again
+                    lastSavedAddressBook = null;
+                }
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is not affected by later changes to it.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        AddressBook snapshot = new AddressBook();
+        snapshot.setPersons(addressBook.getPersonList().stream()
+                .map(WriteBehindStorage::copyOf)
+                .toList());
+        return snapshot;
+    }
+
+    /**
+     * Returns a copy of {@code person}, which has a meetings list of its own.
+     */
+    private static Person copyOf(Person person) {
+        return new Person(person.getName(), person.getPhone(), person.getOtherPhones(), person.getEmail(),
+                person.getAddress(), person.getTags(), person.getMeetings(), person.getFlagStatus());
+    }
+
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    private final Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+    private final List<String> messages = new ArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    };
+
+    @BeforeEach
+    public void setUp() {
+        logger.setLevel(Level.INFO);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.removeHandler(handler);
+        logger.setUseParentHandlers(true);
+        logger.setLevel(null);
+    }
+
+    @Test
+    public void log_levelEnabled_logsFormattedMessage() {
+        LogsCenter.log(logger, Level.INFO, "one %s", "a");
+        LogsCenter.log(logger, Level.WARNING, "two %s %s", "a", "b");
+        LogsCenter.log(logger, Level.INFO, "three %s %s %s", "a", "b", "c");
+        assertEquals(List.of("one a", "two a b", "three a b c"), messages);
+    }
+
+    @Test
+    public void log_levelDisabled_argumentsNotFormatted() {
+        CountingArgument argument = new CountingArgument();
+        LogsCenter.log(logger, Level.FINE, "%s", argument);
+        LogsCenter.log(logger, Level.FINE, "%s %s", argument, argument);
+        LogsCenter.log(logger, Level.FINER, "%s %s %s", argument, argument, argument);
+
+        assertEquals(List.of(), messages);
+        assertEquals(0, argument.toStringCount);
+    }
+
+    private static class CountingArgument {
+        private int toStringCount = 0;
+
+        @Override
+        public String toString() {
+            toStringCount++;
+            return "argument";
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageSettingsTest {
+    @Test
+    public void toStringMethod() {
+        StorageSettings storageSettings = new StorageSettings();
+        String expected = StorageSettings.class.getCanonicalName() + "{isJournalEnabled="
+                + storageSettings.isJournalEnabled() + ", journalCompactionThreshold="
+                + storageSettings.getJournalCompactionThreshold() + ", writeBehindMaxDelay="
+                + storageSettings.getWriteBehindMaxDelay() + ", backupCount=" + storageSettings.getBackupCount()
+                + ", isDataFilePrettyPrinted=" + storageSettings.isDataFilePrettyPrinted()
+                + ", dataFileFormat=" + storageSettings.getDataFileFormat() + "}";
+        assertEquals(expected, storageSettings.toString());
+    }
+}
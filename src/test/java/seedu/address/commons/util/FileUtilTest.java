@@ -1,13 +1,26 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +33,59 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_withBackups_rotatesPreviousVersions() throws IOException {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        for (int version = 1; version <= 4; version++) {
+            FileUtil.writeToFile(file, "v" + version, 2);
+        }
+
+        assertEquals("v4", FileUtil.readFromFile(file));
+        assertEquals("v3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertEquals("v2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 3)));
+
+        // no temporary files left behind
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_singleBackup_replacesBackup() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        for (int version = 1; version <= 3; version++) {
+            FileUtil.writeToFile(file, "v" + version, 1);
+        }
+
+        assertEquals("v3", FileUtil.readFromFile(file));
+        assertEquals("v2", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 2)));
+
+        // the backup is a separate version, not the file itself
+        FileUtil.writeToFile(file, "v4", 1);
+        assertEquals("v3", FileUtil.readFromFile(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    @Test
+    public void writeToFile_withoutBackups_replacesFile() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file, 1)));
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+        assumeTrue(Files.getFileAttributeView(file, PosixFileAttributeView.class) != null);
+
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r--r--"));
+        FileUtil.writeToFile(file, "new", 1);
+        assertEquals(PosixFilePermissions.fromString("rw-r--r--"), Files.getPosixFilePermissions(file));
+    }
+
 }
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,40 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for splitIntoWords --------------------------------------
+
+    @Test
+    public void splitIntoWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitIntoWords(null));
+    }
+
+    @Test
+    public void splitIntoWords_validInputs_correctResult() {
+        assertEquals(List.of(), StringUtil.splitIntoWords(""));
+        assertEquals(List.of(), StringUtil.splitIntoWords(" \t\n "));
+        assertEquals(List.of("aaa"), StringUtil.splitIntoWords("aaa"));
+        assertEquals(List.of("AAA", "bBb", "ccc@1"), StringUtil.splitIntoWords("  AAA \t bBb\nccc@1  "));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalExactlyWhenEqualIgnoringCase() {
+        String[] words = {"", "abc", "ABC", "aBc", "ab", "abd", "straße", "STRASSE", "ǅ", "ǆ", "Ǆ", "ſ", "s", "S",
+            "İ", "i", "ı", "I", "Ω", "ω", "\u2126", "\uD801\uDC00", "\uD801\uDC28"};
+        for (String first : words) {
+            for (String second : words) {
+                assertEquals(first.equalsIgnoreCase(second),
+                        StringUtil.foldCase(first).equals(StringUtil.foldCase(second)), first + " vs " + second);
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
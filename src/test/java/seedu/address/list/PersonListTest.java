@@ -2,6 +2,8 @@ package seedu.address.list;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIFTH_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FOURTH_PERSON;
@@ -88,6 +90,53 @@ public class PersonListTest {
         assertEquals(sortedPersonList.get(INDEX_SIXTH_PERSON.getZeroBased()), sixthPerson);
     }
 
+    @Test
+    public void getPersonList_calledRepeatedly_returnsSameView() {
+        assertSame(model.getPersonList(), model.getPersonList());
+    }
+
+    @Test
+    public void getPersonList_afterUnflagging_originalPositionRestored() {
+        Person thirdPerson = model.getPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        Person thirdPersonFlagged = new PersonBuilder(thirdPerson).withFlagStatus(true).build();
+        model.setPerson(thirdPerson, thirdPersonFlagged);
+        assertEquals(thirdPersonFlagged, model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
+
+        Person thirdPersonUnflagged = new PersonBuilder(thirdPersonFlagged).withFlagStatus(false).build();
+        model.setPerson(thirdPersonFlagged, thirdPersonUnflagged);
+        assertEquals(thirdPersonUnflagged, model.getPersonList().get(INDEX_THIRD_PERSON.getZeroBased()));
+    }
+
+    @Test
+    public void getPersonList_afterDeletingAndAdding_orderPreserved() {
+        ObservableList<Person> sortedPersonList = model.getPersonList();
+        Person secondPerson = sortedPersonList.get(INDEX_SECOND_PERSON.getZeroBased());
+        Person thirdPerson = sortedPersonList.get(INDEX_THIRD_PERSON.getZeroBased());
+        Person newPerson = new PersonBuilder().withPhone("98761234").build();
+
+        model.deletePerson(secondPerson);
+        model.addPerson(newPerson);
+
+        assertEquals(6, sortedPersonList.size());
+        assertEquals(thirdPerson, sortedPersonList.get(INDEX_SECOND_PERSON.getZeroBased()));
+        assertEquals(newPerson, sortedPersonList.get(INDEX_SIXTH_PERSON.getZeroBased()));
+    }
+
+    @Test
+    public void getDiagnostics_afterAccessesAndFilterUpdates_countsRecorded() {
+        PersonList personList = new PersonList(model.getAddressBook().getPersonList());
+        personList.getPersonList();
+        personList.getPersonList();
+        personList.updatePersonListFilter(person -> person.equals(ALICE));
+
+        PersonList.Diagnostics diagnostics = personList.getDiagnostics();
+        assertEquals(6, diagnostics.getSize());
+        assertEquals(1, diagnostics.getDisplayedSize());
+        assertEquals(2, diagnostics.getAccessCount());
+        assertEquals(1, diagnostics.getFilterUpdateCount());
+        assertTrue(diagnostics.getMaxFilterUpdateNanos() <= diagnostics.getTotalFilterUpdateNanos());
+    }
+
     @Test
     public void equals() {
         PersonList firstPersonList = new PersonList(model.getAddressBook().getPersonList());
@@ -7,8 +7,11 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -18,7 +21,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.PersonMeeting;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 import seedu.address.model.person.Person;
@@ -109,6 +114,27 @@ public class AddMeetingCommandTest {
         assertCommandFailure(addMeetingCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_clashingMeeting_successWithClashNote() throws ParseException {
+        // starts half an hour into ELLE's meeting
+        Meeting meeting = new Meeting(new MeetingName(MEETING_NAME_STUB), new Venue(MEETING_VENUE_STUB),
+                new When("2025-11-12 1530"), new MeetingDuration(15));
+
+        Person firstPerson = model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person editedPerson = new PersonBuilder(firstPerson).withMeetings(meeting).build();
+
+        AddMeetingCommand addMeetingCommand = new AddMeetingCommand(INDEX_FIRST_PERSON, meeting);
+
+        String expectedMessage = String.format(AddMeetingCommand.MESSAGE_ADD_MEETING_SUCCESS,
+                Messages.format(editedPerson))
+                + Messages.formatClashingMeetings(List.of(new PersonMeeting(ELLE, ELLE.getMeetings().get(0))));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(firstPerson, editedPerson);
+
+        assertCommandSuccess(addMeetingCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void equals() throws ParseException {
         MeetingName meetingName = new MeetingName(MEETING_NAME_STUB);
@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ClashesCommand}.
+ */
+public class ClashesCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noClashes_noneListed() {
+        String expectedMessage = String.format(ClashesCommand.MESSAGE_CLASHES_LISTED, 0);
+        assertCommandSuccess(new ClashesCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_clashingMeetings_listedInOrderOfTime() throws Exception {
+        // overlaps the end of FIONA's meeting and the start of ELLE's
+        Person person = new PersonBuilder(HOON).withMeetings(
+                new Meeting("Call", "Phone", "2025-10-12 1930"),
+                new Meeting("Sync", "Office", "2025-11-12 1430")).build();
+        model.addPerson(person);
+        expectedModel.addPerson(person);
+
+        String expectedMessage = String.format(ClashesCommand.MESSAGE_CLASHES_LISTED, 2)
+                + "\n1. " + FIONA.getName() + ": " + FIONA.getMeetings().get(0)
+                + " <-> " + person.getName() + ": " + person.getMeetings().get(0)
+                + "\n2. " + person.getName() + ": " + person.getMeetings().get(1)
+                + " <-> " + ELLE.getName() + ": " + ELLE.getMeetings().get(0);
+        assertCommandSuccess(new ClashesCommand(), model, expectedMessage, expectedModel);
+    }
+}
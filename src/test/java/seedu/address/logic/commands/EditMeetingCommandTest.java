@@ -12,6 +12,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_MEETING;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +23,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 import seedu.address.model.person.Person;
@@ -96,6 +101,36 @@ public class EditMeetingCommandTest {
         assertCommandSuccess(editMeetingCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_editRecurringMeeting_recurrenceKept() throws Exception {
+        Person firstPerson = model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Recurrence recurrence = new Recurrence(Frequency.DAILY, LocalDateTime.of(2025, 10, 21, 15, 0));
+        Person recurringPerson = new PersonBuilder(firstPerson).withMeetings(new Meeting(
+                new MeetingName(MEETING_NAME_STUB), venue, when, MeetingDuration.DEFAULT, recurrence)).build();
+        model.setPerson(firstPerson, recurringPerson);
+
+        // its own occurrences are not reported as clashes
+        MeetingName updatedMeetingName = new MeetingName(MEETING_NAME_STUB_2);
+        Person editedPerson = new PersonBuilder(recurringPerson).withMeetings(new Meeting(
+                updatedMeetingName, venue, when, MeetingDuration.DEFAULT, recurrence)).build();
+        EditMeetingDescriptor editMeetingDescriptor = new EditMeetingDescriptor();
+        editMeetingDescriptor.setMeetingName(updatedMeetingName);
+        EditMeetingCommand editMeetingCommand = new EditMeetingCommand(INDEX_FIRST_PERSON, INDEX_FIRST_MEETING,
+                editMeetingDescriptor);
+
+        String expectedMessage = String.format(EditMeetingCommand.MESSAGE_EDIT_MEETING_SUCCESS,
+                Messages.format(editedPerson));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(recurringPerson, editedPerson);
+        assertCommandSuccess(editMeetingCommand, model, expectedMessage, expectedModel);
+
+        // moved after the date and time it repeats until
+        editMeetingDescriptor = new EditMeetingDescriptor();
+        editMeetingDescriptor.setWhen(new When("2025-10-22 1500"));
+        assertCommandFailure(new EditMeetingCommand(INDEX_FIRST_PERSON, INDEX_FIRST_MEETING, editMeetingDescriptor),
+                model, Meeting.MESSAGE_RECURRENCE_CONSTRAINTS);
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() throws Exception {
         Index outOfBoundIndex = Index.fromOneBased(model.getPersonList().size() + 1);
@@ -47,6 +47,10 @@ public class EditMeetingDescriptorTest {
         // different when -> returns false
         editedMeeting = new EditMeetingDescriptorBuilder(MEETING_AMY).withWhen(VALID_WHEN_BOB).build();
         assertFalse(MEETING_AMY.equals(editedMeeting));
+
+        // different duration -> returns false
+        editedMeeting = new EditMeetingDescriptorBuilder(MEETING_AMY).withDuration("90").build();
+        assertFalse(MEETING_AMY.equals(editedMeeting));
     }
 
     @Test
@@ -63,7 +67,8 @@ public class EditMeetingDescriptorTest {
         expectedString = EditMeetingDescriptor.class.getCanonicalName() + "{meetingName="
                 + descriptor.getMeetingName().orElse(null)
                 + ", venue=" + descriptor.getVenue().orElse(null)
-                + ", when=" + descriptor.getWhen().orElse(null) + "}";
+                + ", when=" + descriptor.getWhen().orElse(null)
+                + ", duration=" + descriptor.getDuration().orElse(null) + "}";
         assertEquals(expectedString, descriptor.toString());
     }
 }
@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +76,20 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getPersonList());
     }
 
+    @Test
+    public void execute_personRenamed_foundByNewNameIgnoringCase() {
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Smith").build();
+        model.setPerson(CARL, renamedCarl);
+        expectedModel.setPerson(CARL, renamedCarl);
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("SMITH kurz kunz");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updatePersonListFilter(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(renamedCarl, FIONA), model.getPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -14,10 +14,14 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.list.PersonList;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.Meeting;
 import seedu.address.model.person.MeetingNameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindMeetingCommand}.
@@ -89,6 +93,33 @@ public class FindMeetingCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getPersonList());
     }
 
+    @Test
+    public void execute_multipleKeywords_searchDiagnosticsRecorded() {
+        new FindMeetingCommand(preparePredicate("zoom google teams")).execute(model);
+
+        PersonList.Diagnostics diagnostics = model.getPersonListDiagnostics();
+        assertEquals(model.getAddressBook().getPersonList().size(), diagnostics.getSize());
+        assertEquals(3, diagnostics.getDisplayedSize());
+        assertTrue(diagnostics.getLastFilterUpdateNanos() <= diagnostics.getTotalFilterUpdateNanos());
+    }
+
+    @Test
+    public void execute_meetingRenamed_foundByNewMeetingName() throws Exception {
+        Meeting renamedMeeting = new Meeting("Quarterly review", "Online", "2020-11-12 1900");
+        Person carlWithRenamedMeeting = new PersonBuilder(CARL).withMeetings(renamedMeeting).build();
+        model.setPerson(CARL, carlWithRenamedMeeting);
+        expectedModel.setPerson(CARL, carlWithRenamedMeeting);
+
+        MeetingNameContainsKeywordsPredicate predicate = preparePredicate("ZOOM quarterly");
+        FindMeetingCommand command = new FindMeetingCommand(predicate);
+
+        expectedModel.updatePersonListFilter(predicate);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(carlWithRenamedMeeting), model.getPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         MeetingNameContainsKeywordsPredicate predicate = new MeetingNameContainsKeywordsPredicate(
@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -18,6 +20,7 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -42,6 +45,17 @@ public class FlagCommandTest {
         assertEquals(flaggedPerson, model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
     }
 
+    @Test
+    public void execute_afterFind_flaggedPersonStillListed() throws Exception {
+        new FindCommand(new NameContainsKeywordsPredicate(List.of("Meier"))).execute(model);
+        Person benson = model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person daniel = model.getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+
+        new FlagCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertEquals(List.of(new PersonBuilder(benson).withFlagStatus(true).build(), daniel), model.getPersonList());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getPersonList().size() + 1);
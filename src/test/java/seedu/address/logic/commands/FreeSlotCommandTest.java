@@ -0,0 +1,139 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.When;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeSlotCommand}.
+ */
+public class FreeSlotCommandTest {
+    private static final MeetingDuration HOUR = new MeetingDuration(60);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidArguments_throwsException() throws Exception {
+        When from = new When("2024-03-01 0900");
+        When to = new When("2024-03-01 1800");
+        assertThrows(IllegalArgumentException.class, FreeSlotCommand.MESSAGE_INVALID_RANGE, () ->
+                new FreeSlotCommand(List.of(INDEX_FIRST_PERSON), to, from, HOUR));
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotCommand(List.of(), from, to, HOUR));
+        assertThrows(NullPointerException.class, () -> new FreeSlotCommand((Tag) null, from, to, HOUR));
+    }
+
+    @Test
+    public void execute_personsWithMeetings_slotsAroundMeetings() throws Exception {
+        // ELLE has a meeting from 15:00 to 16:00, FIONA has none on that day
+        When from = new When("2025-11-12 1400");
+        When to = new When("2025-11-12 1800");
+        FreeSlotCommand command = new FreeSlotCommand(List.of(Index.fromOneBased(5), Index.fromOneBased(6)),
+                from, to, HOUR);
+
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_FREE_SLOTS_FOUND, 2, HOUR, 2, from, to)
+                + "\n1. " + new When("2025-11-12 1400") + " to " + new When("2025-11-12 1500")
+                + "\n2. " + new When("2025-11-12 1600") + " to " + new When("2025-11-12 1800");
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noSlotLongEnough_noSlotsFound() throws Exception {
+        When from = new When("2025-11-12 1430");
+        When to = new When("2025-11-12 1630");
+        FreeSlotCommand command = new FreeSlotCommand(List.of(Index.fromOneBased(5)), from, to, HOUR);
+
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_FREE_SLOTS_FOUND, 0, HOUR, 1, from, to);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tag_slotsForTaggedPersons() throws Exception {
+        // ALICE, BENSON and DANIEL are friends without meetings
+        When from = new When("2025-11-12 1400");
+        When to = new When("2025-11-12 1800");
+        FreeSlotCommand command = new FreeSlotCommand(new Tag("friends"), from, to, HOUR);
+
+        String expectedMessage = String.format(FreeSlotCommand.MESSAGE_FREE_SLOTS_FOUND, 1, HOUR, 3, from, to)
+                + "\n1. " + from + " to " + to;
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownTag_failure() throws Exception {
+        Tag tag = new Tag("strangers");
+        FreeSlotCommand command = new FreeSlotCommand(tag, new When("2025-11-12 1400"),
+                new When("2025-11-12 1800"), HOUR);
+        assertCommandFailure(command, model, String.format(FreeSlotCommand.MESSAGE_NO_PERSONS_WITH_TAG, tag));
+    }
+
+    @Test
+    public void execute_invalidPersonIndex_failure() throws Exception {
+        Index outOfBoundIndex = Index.fromOneBased(model.getPersonList().size() + 1);
+        FreeSlotCommand command = new FreeSlotCommand(List.of(INDEX_FIRST_PERSON, outOfBoundIndex),
+                new When("2025-11-12 1400"), new When("2025-11-12 1800"), HOUR);
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() throws Exception {
+        When from = new When("2024-03-01 0900");
+        When to = new When("2024-03-01 1800");
+        FreeSlotCommand command = new FreeSlotCommand(List.of(INDEX_FIRST_PERSON), from, to, HOUR);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FreeSlotCommand(List.of(INDEX_FIRST_PERSON), from, to, HOUR)));
+
+        // same values -> same hash code, even with separate but equal indices
+        assertEquals(command.hashCode(), new FreeSlotCommand(List.of(Index.fromOneBased(1)), from, to, HOUR).hashCode());
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different persons -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(List.of(INDEX_SECOND_PERSON), from, to, HOUR)));
+        assertFalse(command.equals(new FreeSlotCommand(new Tag("friends"), from, to, HOUR)));
+
+        // different window -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(List.of(INDEX_FIRST_PERSON), from, from, HOUR)));
+
+        // different duration -> returns false
+        assertFalse(command.equals(new FreeSlotCommand(List.of(INDEX_FIRST_PERSON), from, to,
+                new MeetingDuration(30))));
+    }
+
+    @Test
+    public void toStringMethod() throws Exception {
+        When from = new When("2024-03-01 0900");
+        When to = new When("2024-03-01 1800");
+        FreeSlotCommand command = new FreeSlotCommand(new Tag("friends"), from, to, HOUR);
+        String expected = FreeSlotCommand.class.getCanonicalName() + "{personIndices=[], tag=" + new Tag("friends")
+                + ", from=" + from + ", to=" + to + ", duration=" + HOUR + "}";
+        assertEquals(expected, command.toString());
+    }
+}
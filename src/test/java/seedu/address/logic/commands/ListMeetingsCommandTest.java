@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.When;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListMeetingsCommand}.
+ */
+public class ListMeetingsCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_fromAfterTo_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ListMeetingsCommand.MESSAGE_INVALID_RANGE, () ->
+                new ListMeetingsCommand(new When("2024-03-02 0900"), new When("2024-03-01 0900")));
+    }
+
+    @Test
+    public void execute_noMeetingsInRange_noMeetingsListed() throws Exception {
+        When from = new When("2021-01-01 0000");
+        When to = new When("2021-12-31 2359");
+        String expectedMessage = String.format(ListMeetingsCommand.MESSAGE_MEETINGS_LISTED, 0, from, to);
+        assertCommandSuccess(new ListMeetingsCommand(from, to), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_meetingsInRange_listedInOrderOfTime() throws Exception {
+        When from = new When("2020-11-12 1900");
+        When to = new When("2025-11-12 1500");
+        String expectedMessage = String.format(ListMeetingsCommand.MESSAGE_MEETINGS_LISTED, 3, from, to)
+                + "\n1. " + CARL.getName() + ": " + CARL.getMeetings().get(0)
+                + "\n2. " + FIONA.getName() + ": " + FIONA.getMeetings().get(0)
+                + "\n3. " + ELLE.getName() + ": " + ELLE.getMeetings().get(0);
+        assertCommandSuccess(new ListMeetingsCommand(from, to), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_personDeleted_meetingsNotListed() throws Exception {
+        model.deletePerson(FIONA);
+        expectedModel.deletePerson(FIONA);
+
+        When from = new When("2025-01-01 0000");
+        When to = new When("2025-12-31 2359");
+        String expectedMessage = String.format(ListMeetingsCommand.MESSAGE_MEETINGS_LISTED, 1, from, to)
+                + "\n1. " + ELLE.getName() + ": " + ELLE.getMeetings().get(0);
+        assertCommandSuccess(new ListMeetingsCommand(from, to), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() throws Exception {
+        ListMeetingsCommand command = new ListMeetingsCommand(new When("2024-03-01 0900"),
+                new When("2024-03-01 1800"));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ListMeetingsCommand(new When("2024-03-01 0900"),
+                new When("2024-03-01 1800"))));
+
+        // same values -> same hash code
+        assertEquals(command.hashCode(), new ListMeetingsCommand(new When("2024-03-01 0900"),
+                new When("2024-03-01 1800")).hashCode());
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different start -> returns false
+        assertFalse(command.equals(new ListMeetingsCommand(new When("2024-03-01 0800"),
+                new When("2024-03-01 1800"))));
+
+        // different end -> returns false
+        assertFalse(command.equals(new ListMeetingsCommand(new When("2024-03-01 0900"),
+                new When("2024-03-01 1900"))));
+    }
+
+    @Test
+    public void toStringMethod() throws Exception {
+        When from = new When("2024-03-01 0900");
+        When to = new When("2024-03-01 1800");
+        ListMeetingsCommand command = new ListMeetingsCommand(from, to);
+        String expected = ListMeetingsCommand.class.getCanonicalName() + "{from=" + from + ", to=" + to + "}";
+        assertEquals(expected, command.toString());
+    }
+}
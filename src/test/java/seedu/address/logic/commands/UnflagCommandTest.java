@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +21,7 @@ import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.MeetingNameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -33,6 +36,19 @@ public class UnflagCommandTest {
                 new PersonBuilder(personToFlag).withFlagStatus(true).build());
     }
 
+    @Test
+    public void execute_afterFindMeeting_unflaggedPersonStillListed() throws Exception {
+        new FindMeetingCommand(new MeetingNameContainsKeywordsPredicate(List.of("meeting"))).execute(model);
+        Person carl = model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person elle = model.getPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Person fiona = model.getPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+
+        new UnflagCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertEquals(List.of(new PersonBuilder(carl).withFlagStatus(false).build(), elle, fiona),
+                model.getPersonList());
+    }
+
     @Test
     public void execute_validIndexUnfilteredList_success() {
         Person personToUnflag = model.getPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
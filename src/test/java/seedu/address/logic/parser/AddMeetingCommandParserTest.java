@@ -1,21 +1,30 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RECURRENCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_UNTIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_VENUE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WHEN;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddMeetingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 
@@ -39,6 +48,80 @@ public class AddMeetingCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_durationSpecified_success() throws ParseException {
+        String userInput = " " + PREFIX_PERSON_INDEX + INDEX_FIRST_PERSON.getOneBased() + " " + PREFIX_MEETING
+                + nonEmptyMeeting + " " + PREFIX_VENUE + nonEmptyVenue + " " + PREFIX_WHEN + nonEmptyWhen + " "
+                + PREFIX_DURATION + "90";
+        AddMeetingCommand expectedCommand = new AddMeetingCommand(INDEX_FIRST_PERSON,
+                new Meeting(new MeetingName(nonEmptyMeeting), new Venue(nonEmptyVenue), new When(nonEmptyWhen),
+                        new MeetingDuration(90)));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidDuration_failure() {
+        String userInput = " " + PREFIX_PERSON_INDEX + INDEX_FIRST_PERSON.getOneBased() + " " + PREFIX_MEETING
+                + nonEmptyMeeting + " " + PREFIX_VENUE + nonEmptyVenue + " " + PREFIX_WHEN + nonEmptyWhen + " "
+                + PREFIX_DURATION + "2000";
+        assertParseFailure(parser, userInput, MeetingDuration.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_recurrenceSpecified_success() throws ParseException {
+        String meetingInput = " " + PREFIX_PERSON_INDEX + INDEX_FIRST_PERSON.getOneBased() + " " + PREFIX_MEETING
+                + nonEmptyMeeting + " " + PREFIX_VENUE + nonEmptyVenue + " " + PREFIX_WHEN + nonEmptyWhen;
+        MeetingName meetingName = new MeetingName(nonEmptyMeeting);
+        Venue venue = new Venue(nonEmptyVenue);
+        When when = new When(nonEmptyWhen);
+
+        // number of occurrences
+        assertParseSuccess(parser, meetingInput + " " + PREFIX_RECURRENCE + "weekly " + PREFIX_COUNT + "10",
+                new AddMeetingCommand(INDEX_FIRST_PERSON, new Meeting(meetingName, venue, when,
+                        MeetingDuration.DEFAULT, new Recurrence(Frequency.WEEKLY, 10))));
+
+        // until a date and time
+        assertParseSuccess(parser, meetingInput + " " + PREFIX_RECURRENCE + "Monthly " + PREFIX_UNTIL
+                + "2026-10-11 1400", new AddMeetingCommand(INDEX_FIRST_PERSON, new Meeting(meetingName, venue, when,
+                        MeetingDuration.DEFAULT, new Recurrence(Frequency.MONTHLY,
+                                LocalDateTime.of(2026, 10, 11, 14, 0)))));
+    }
+
+    @Test
+    public void parse_invalidRecurrence_failure() {
+        String meetingInput = " " + PREFIX_PERSON_INDEX + INDEX_FIRST_PERSON.getOneBased() + " " + PREFIX_MEETING
+                + nonEmptyMeeting + " " + PREFIX_VENUE + nonEmptyVenue + " " + PREFIX_WHEN + nonEmptyWhen;
+
+        // end without a recurrence
+        assertParseFailure(parser, meetingInput + " " + PREFIX_COUNT + "10",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE));
+
+        // invalid frequency
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "yearly " + PREFIX_COUNT + "10",
+                Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS);
+
+        // no end, or both ends
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily", Recurrence.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily " + PREFIX_COUNT + "10 "
+                + PREFIX_UNTIL + "2026-10-11 1400", Recurrence.MESSAGE_CONSTRAINTS);
+
+        // invalid count
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily " + PREFIX_COUNT + "0",
+                Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily " + PREFIX_COUNT
+                + (Recurrence.MAX_COUNT + 1), Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily " + PREFIX_COUNT + "999999999",
+                Recurrence.MESSAGE_COUNT_CONSTRAINTS);
+
+        // until before the meeting
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily " + PREFIX_UNTIL
+                + "2025-10-10 1400", Meeting.MESSAGE_RECURRENCE_CONSTRAINTS);
+
+        // until too far after the meeting to repeat at most the maximum number of times
+        assertParseFailure(parser, meetingInput + " " + PREFIX_RECURRENCE + "daily " + PREFIX_UNTIL
+                + "2099-10-11 1400", Meeting.MESSAGE_RECURRENCE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_nonEmptyPreamble_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddMeetingCommand.MESSAGE_USAGE);
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMeetingCommand;
+import seedu.address.logic.commands.ClashesCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteMeetingCommand;
@@ -32,11 +33,15 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindMeetingCommand;
 import seedu.address.logic.commands.FlagCommand;
+import seedu.address.logic.commands.FreeSlotCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListMeetingsCommand;
 import seedu.address.logic.commands.UnflagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.When;
 import seedu.address.model.person.MeetingNameContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -100,6 +105,27 @@ public class AddressBookParserTest {
         assertEquals(new FindMeetingCommand(new MeetingNameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_clashes() throws Exception {
+        assertTrue(parser.parseCommand(ClashesCommand.COMMAND_WORD) instanceof ClashesCommand);
+        assertTrue(parser.parseCommand(ClashesCommand.COMMAND_WORD + " 3") instanceof ClashesCommand);
+    }
+
+    @Test
+    public void parseCommand_freeSlot() throws Exception {
+        FreeSlotCommand command = (FreeSlotCommand) parser.parseCommand(FreeSlotCommand.COMMAND_WORD
+                + " p=1 from=2024-03-01 0900 to=2024-03-01 1800 d=30");
+        assertEquals(new FreeSlotCommand(List.of(INDEX_FIRST_PERSON), new When("2024-03-01 0900"),
+                new When("2024-03-01 1800"), new MeetingDuration(30)), command);
+    }
+
+    @Test
+    public void parseCommand_listMeetings() throws Exception {
+        ListMeetingsCommand command = (ListMeetingsCommand) parser.parseCommand(
+                ListMeetingsCommand.COMMAND_WORD + " from=2024-03-01 0900 to=2024-03-01 1800");
+        assertEquals(new ListMeetingsCommand(new When("2024-03-01 0900"), new When("2024-03-01 1800")), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
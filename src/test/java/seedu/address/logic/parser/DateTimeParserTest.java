@@ -6,6 +6,7 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_DATETIME_FORMAT;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +79,44 @@ public class DateTimeParserTest {
         assertEquals(MESSAGE_INVALID_DATETIME_FORMAT, ex.getMessage());
     }
 
+    @Test
+    public void tryParseDateTime_validDateTime_returnsDateTime() {
+        for (String validDatetimeFormat : VALID_DATETIME_FORMATS) {
+            assertEquals(Optional.of(VALID_DATETIME_2), DateTimeParser.tryParseDateTime(validDatetimeFormat));
+        }
+        assertEquals(Optional.of(LocalDateTime.of(0, 2, 29, 0, 0)),
+                DateTimeParser.tryParseDateTime("0000-02-29 0000")); // year zero is a leap year
+        assertEquals(Optional.of(LocalDateTime.of(-1, 1, 1, 10, 0)),
+                DateTimeParser.tryParseDateTime("-0001-01-01 10:00")); // negative year
+        assertEquals(Optional.of(LocalDateTime.of(10000, 1, 1, 10, 0)),
+                DateTimeParser.tryParseDateTime("01-01-+10000 1000")); // year with more than 4 digits
+    }
+
+    @Test
+    public void tryParseDateTime_invalidDateTime_returnsEmpty() {
+        List<String> invalidDateTimes = List.of(
+                INVALID_DATETIME_FORMAT_1, INVALID_DATETIME_FORMAT_2, INVALID_DATETIME_FORMAT_3,
+                INVALID_LEAP_YEAR_DATE,
+                "", // empty
+                "12/01/2025", // no time
+                "12/01/2025 24:00", // hour out of range
+                "12/01/2025  14:00", // extra space
+                "12/01/2025 14:00 ", // trailing space
+                "12/01-2025 14:00", // mixed separators
+                "12.01.2025 14:00", // unsupported separator
+                "1/01/2025 14:00", // single digit day
+                "2025-1-12 14:00", // single digit month
+                "2025-01-12 14.00", // unsupported time separator
+                "10000-01-01 10:00", // more than 4 digits without a sign
+                "+2025-01-01 10:00", // plus sign with only 4 digits
+                "-0000-01-01 10:00", // minus sign on year zero
+                "+1000000000-01-01 10:00", // year out of range
+                "２０２５-01-12 14:00"); // non-ASCII digits
+        for (String invalidDateTime : invalidDateTimes) {
+            assertEquals(Optional.empty(), DateTimeParser.tryParseDateTime(invalidDateTime), invalidDateTime);
+        }
+    }
+
     @Test
     public void format_formatValidDateTime_success() {
         String expectedString = VALID_DATETIME_STRING_1;
@@ -16,6 +16,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_VENUE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_VENUE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_WHEN_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_WHEN_BOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MEETING_INDEX;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON_INDEX;
@@ -33,6 +34,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.EditMeetingCommand;
 import seedu.address.logic.commands.EditMeetingCommand.EditMeetingDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
@@ -157,6 +159,14 @@ public class EditMeetingCommandParserTest {
                 descriptor);
 
         assertParseSuccess(parser, userInput, expectedCommand);
+
+        userInput = " " + PREFIX_PERSON_INDEX + personIndex.getOneBased() + " " + PREFIX_MEETING_INDEX
+                + meetingIndex.getOneBased() + " " + PREFIX_DURATION + "90";
+        descriptor = new EditMeetingDescriptorBuilder().withDuration("90").build();
+        expectedCommand = new EditMeetingCommand(INDEX_FIRST_PERSON, INDEX_FIRST_MEETING,
+                descriptor);
+
+        assertParseSuccess(parser, userInput, expectedCommand);
     }
 
     @Test
@@ -175,6 +185,11 @@ public class EditMeetingCommandParserTest {
                 + meetingIndex.getOneBased() + MEETING_NAME_AMY + MEETING_VENUE_AMY + INVALID_MEETING_WHEN;
 
         assertParseFailure(parser, userInput, When.MESSAGE_CONSTRAINTS);
+
+        userInput = " " + PREFIX_PERSON_INDEX + personIndex.getOneBased() + " " + PREFIX_MEETING_INDEX
+                + meetingIndex.getOneBased() + MEETING_NAME_AMY + " " + PREFIX_DURATION + "0";
+
+        assertParseFailure(parser, userInput, MeetingDuration.MESSAGE_CONSTRAINTS);
     }
 
     @Test
@@ -191,6 +206,10 @@ public class EditMeetingCommandParserTest {
                 + meetingIndex.getOneBased() + INVALID_MEETING_WHEN + MEETING_WHEN_AMY;
         assertParseFailure(parser, userInput, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_WHEN));
 
+        userInput = " " + PREFIX_PERSON_INDEX + personIndex.getOneBased() + " " + PREFIX_MEETING_INDEX
+                + meetingIndex.getOneBased() + " " + PREFIX_DURATION + "30 " + PREFIX_DURATION + "45";
+        assertParseFailure(parser, userInput, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DURATION));
+
         userInput = " " + PREFIX_PERSON_INDEX + personIndex.getOneBased() + " " + PREFIX_MEETING_INDEX
                 + meetingIndex.getOneBased() + MEETING_NAME_AMY + MEETING_WHEN_AMY + MEETING_VENUE_AMY
                 + MEETING_NAME_AMY + MEETING_VENUE_AMY + MEETING_WHEN_AMY;
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.FreeSlotCommand;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.When;
+import seedu.address.model.tag.Tag;
+
+public class FreeSlotCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotCommand.MESSAGE_USAGE);
+    private static final String WINDOW = " from=2024-03-01 0900 to=2024-03-01 1800 d=60";
+
+    private FreeSlotCommandParser parser = new FreeSlotCommandParser();
+
+    @Test
+    public void parse_personIndices_returnsFreeSlotCommand() throws Exception {
+        FreeSlotCommand expectedCommand = new FreeSlotCommand(List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON),
+                new When("2024-03-01 0900"), new When("2024-03-01 1800"), new MeetingDuration(60));
+        assertParseSuccess(parser, " p=1 p=3" + WINDOW, expectedCommand);
+
+        // different order
+        assertParseSuccess(parser, " d=60 p=1 to=2024-03-01 1800 p=3 from=2024-03-01 0900", expectedCommand);
+    }
+
+    @Test
+    public void parse_tag_returnsFreeSlotCommand() throws Exception {
+        FreeSlotCommand expectedCommand = new FreeSlotCommand(new Tag("friends"),
+                new When("2024-03-01 0900"), new When("2024-03-01 1800"), new MeetingDuration(60));
+        assertParseSuccess(parser, " t=friends" + WINDOW, expectedCommand);
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // neither persons nor tag
+        assertParseFailure(parser, WINDOW, MESSAGE_INVALID_FORMAT);
+
+        // both persons and tag
+        assertParseFailure(parser, " p=1 t=friends" + WINDOW, MESSAGE_INVALID_FORMAT);
+
+        // missing window or duration
+        assertParseFailure(parser, " p=1 to=2024-03-01 1800 d=60", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p=1 from=2024-03-01 0900 d=60", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p=1 from=2024-03-01 0900 to=2024-03-01 1800", MESSAGE_INVALID_FORMAT);
+
+        // preamble
+        assertParseFailure(parser, " preamble p=1" + WINDOW, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " p=0" + WINDOW, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " p=1 p=x" + WINDOW, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " t=#friends" + WINDOW, Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p=1 from=2024-03-01 1800 to=2024-03-01 0900 d=60",
+                FreeSlotCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " p=1 from=2024-03-01 0900 to=2024-03-01 1800 d=0",
+                MeetingDuration.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p=1" + WINDOW + " d=30", Messages.getErrorMessageForDuplicatePrefixes(
+                PREFIX_DURATION));
+        assertParseFailure(parser, " t=friends t=family" + WINDOW,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TAG));
+    }
+}
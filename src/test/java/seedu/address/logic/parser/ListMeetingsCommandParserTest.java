@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListMeetingsCommand;
+import seedu.address.model.meeting.When;
+
+public class ListMeetingsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListMeetingsCommand.MESSAGE_USAGE);
+
+    private ListMeetingsCommandParser parser = new ListMeetingsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsListMeetingsCommand() throws Exception {
+        ListMeetingsCommand expectedCommand = new ListMeetingsCommand(new When("2024-03-01 0900"),
+                new When("2024-03-01 1800"));
+        assertParseSuccess(parser, " from=2024-03-01 0900 to=2024-03-01 1800", expectedCommand);
+
+        // different order and format
+        assertParseSuccess(parser, " to=01/03/2024 18:00 from=2024-03-01 0900", expectedCommand);
+
+        // same start and end
+        assertParseSuccess(parser, " from=2024-03-01 0900 to=2024-03-01 0900",
+                new ListMeetingsCommand(new When("2024-03-01 0900"), new When("2024-03-01 0900")));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from=2024-03-01 0900", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to=2024-03-01 0900", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " preamble from=2024-03-01 0900 to=2024-03-01 1800", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValues_failure() {
+        assertParseFailure(parser, " from=tomorrow to=2024-03-01 1800", When.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from=2024-03-01 1800 to=2024-03-01 0900",
+                ListMeetingsCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " from=2024-03-01 0900 from=2024-03-01 0900 to=2024-03-01 1800",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_FROM));
+        assertParseFailure(parser, " from=2024-03-01 0900 to=2024-03-01 1800 to=2024-03-01 1800",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TO));
+    }
+}
@@ -75,6 +75,18 @@ public class ParserUtilTest {
         assertThrows(ParseException.class, () -> ParserUtil.parseName(INVALID_NAME));
     }
 
+    @Test
+    public void parseName_invalidValue_throwsParseExceptionWithViolatedConstraint() {
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS_NO_BLANK_NAME, () -> ParserUtil.parseName(" "));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS_AT_LEAST_ONE_ALPHANUMERIC, () ->
+                ParserUtil.parseName("^"));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseName(INVALID_NAME));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS_INVALID_START_END, () ->
+                ParserUtil.parseName("-Rachel"));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS_NO_CONSECUTIVE_SPECIAL_CHAR, () ->
+                ParserUtil.parseName("Rachel--Walker"));
+    }
+
     @Test
     public void parseName_validValueWithoutWhitespace_returnsName() throws Exception {
         Name expectedName = new Name(VALID_NAME);
@@ -78,6 +78,28 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_afterModification_increases() {
+        long count = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+
+        count = addressBook.getModificationCount();
+        addressBook.hasPerson(ALICE);
+        assertEquals(count, addressBook.getModificationCount());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void getModificationCount_failedModification_unchanged() {
+        addressBook.addPerson(ALICE);
+        long count = addressBook.getModificationCount();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(count, addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -103,6 +125,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,152 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.FreeSlot;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
+import seedu.address.model.meeting.Venue;
+import seedu.address.model.meeting.When;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class FreeSlotFinderTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final MeetingDuration HOUR = new MeetingDuration(60);
+
+    @Test
+    public void findFreeSlots_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () ->
+                FreeSlotFinder.findFreeSlots(null, BASE, BASE, HOUR, 1));
+        assertThrows(IllegalArgumentException.class, FreeSlotFinder.MESSAGE_INVALID_RANGE, () ->
+                FreeSlotFinder.findFreeSlots(List.of(), BASE.plusMinutes(1), BASE, HOUR, 1));
+        assertThrows(IllegalArgumentException.class, () ->
+                FreeSlotFinder.findFreeSlots(List.of(), BASE, BASE, HOUR, -1));
+    }
+
+    @Test
+    public void findFreeSlots_noMeetings_wholeWindow() {
+        assertEquals(List.of(slot(0, 480)), FreeSlotFinder.findFreeSlots(
+                List.of(new PersonBuilder().build()), BASE, at(480), HOUR, 5));
+
+        // window shorter than the duration
+        assertEquals(List.of(), FreeSlotFinder.findFreeSlots(List.of(), BASE, at(59), HOUR, 5));
+    }
+
+    @Test
+    public void findFreeSlots_overlappingMeetings_gapsBetweenMerged() throws Exception {
+        Person first = personWithMeetings(meeting(-30, 60), meeting(120, 30), meeting(300, 120));
+        Person second = personWithMeetings(meeting(90, 60), meeting(200, 40), meeting(470, 60));
+
+        // busy until 0:30, 1:30 to 2:30, 3:20 to 4:00, 5:00 to 7:00, then from 7:50 until past the window
+        assertEquals(List.of(slot(30, 90), slot(240, 300)),
+                FreeSlotFinder.findFreeSlots(List.of(first, second), BASE, at(480), HOUR, 5));
+
+        // only the earliest
+        assertEquals(List.of(slot(30, 90)),
+                FreeSlotFinder.findFreeSlots(List.of(first, second), BASE, at(480), HOUR, 1));
+
+        // shorter slots fit between more meetings
+        assertEquals(List.of(slot(30, 90), slot(150, 200), slot(240, 300), slot(420, 470)),
+                FreeSlotFinder.findFreeSlots(List.of(first, second), BASE, at(480), new MeetingDuration(50), 5));
+    }
+
+    @Test
+    public void findFreeSlots_touchingMeetings_noGap() throws Exception {
+        Person person = personWithMeetings(meeting(0, 60), meeting(60, 60));
+        assertEquals(List.of(slot(120, 180)),
+                FreeSlotFinder.findFreeSlots(List.of(person), BASE, at(180), HOUR, 5));
+    }
+
+    @Test
+    public void findFreeSlots_recurringMeetings_occurrencesInWindowBusy() throws Exception {
+        // daily from the day before, and weekly from long before, each with an occurrence in the window
+        Person first = personWithMeetings(new Meeting(new MeetingName("Standup"), new Venue("Office"),
+                new When(at(60 - 24 * 60)), HOUR, new Recurrence(Frequency.DAILY, 3)));
+        Person second = personWithMeetings(new Meeting(new MeetingName("Review"), new Venue("Office"),
+                new When(at(180).minusWeeks(500)), new MeetingDuration(30),
+                new Recurrence(Frequency.WEEKLY, at(180))));
+
+        assertEquals(List.of(slot(0, 60), slot(120, 180), slot(210, 300)),
+                FreeSlotFinder.findFreeSlots(List.of(first, second), BASE, at(300), new MeetingDuration(30), 5));
+    }
+
+    @Test
+    public void findFreeSlots_randomMeetings_matchBruteForce() throws Exception {
+        Random random = new Random(42);
+        int windowMinutes = 24 * 60;
+
+        for (int round = 0; round < 50; round++) {
+            List<Person> persons = new ArrayList<>();
+            boolean[] isBusy = new boolean[windowMinutes];
+            int personCount = 1 + random.nextInt(8);
+            for (int i = 0; i < personCount; i++) {
+                List<Meeting> meetings = new ArrayList<>();
+                int meetingCount = random.nextInt(10);
+                for (int j = 0; j < meetingCount; j++) {
+                    int start = random.nextInt(windowMinutes + 120) - 60;
+                    int minutes = 1 + random.nextInt(120);
+                    meetings.add(meeting(start, minutes));
+                    for (int minute = Math.max(start, 0); minute < Math.min(start + minutes, windowMinutes); minute++) {
+                        isBusy[minute] = true;
+                    }
+                }
+                persons.add(personWithMeetings(meetings.toArray(Meeting[]::new)));
+            }
+            MeetingDuration duration = new MeetingDuration(1 + random.nextInt(90));
+
+            assertEquals(bruteForceFreeSlots(isBusy, duration, 4),
+                    FreeSlotFinder.findFreeSlots(persons, BASE, at(windowMinutes), duration, 4));
+        }
+    }
+
+    private static List<FreeSlot> bruteForceFreeSlots(boolean[] isBusy, MeetingDuration duration, int limit) {
+        List<FreeSlot> slots = new ArrayList<>();
+        int start = 0;
+        while (start < isBusy.length && slots.size() < limit) {
+            if (isBusy[start]) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < isBusy.length && !isBusy[end]) {
+                end++;
+            }
+            if (end - start >= duration.minutes) {
+                slots.add(slot(start, end));
+            }
+            start = end;
+        }
+        return slots;
+    }
+
+    private static Person personWithMeetings(Meeting... meetings) {
+        return new PersonBuilder().withMeetings(meetings).build();
+    }
+
+    private static Meeting meeting(int startMinute, int minutes) throws Exception {
+        return new Meeting(new MeetingName("Meeting"), new Venue("Office"), new When(at(startMinute)),
+                new MeetingDuration(minutes));
+    }
+
+    private static FreeSlot slot(int startMinute, int endMinute) {
+        return new FreeSlot(at(startMinute), at(endMinute));
+    }
+
+    private static LocalDateTime at(int minute) {
+        return BASE.plusMinutes(minute);
+    }
+
+}
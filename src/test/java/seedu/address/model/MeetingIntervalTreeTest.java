@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.PersonMeeting;
+import seedu.address.model.meeting.Venue;
+import seedu.address.model.meeting.When;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetingIntervalTreeTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final Person PERSON = new PersonBuilder().build();
+
+    private final MeetingIntervalTree tree = new MeetingIntervalTree();
+
+    @Test
+    public void insert_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tree.insert(null));
+        assertThrows(NullPointerException.class, () -> tree.remove(null));
+        assertThrows(NullPointerException.class, () -> tree.getOverlapping(null, BASE));
+        assertThrows(NullPointerException.class, () -> tree.getStartingBetween(BASE, null));
+    }
+
+    @Test
+    public void getOverlapping_touchingMeetings_notOverlapping() throws Exception {
+        PersonMeeting morning = meetingAt(0, 60);
+        PersonMeeting noon = meetingAt(60, 30);
+        tree.insert(morning);
+        tree.insert(noon);
+
+        assertEquals(List.of(morning), tree.getOverlapping(BASE.minusMinutes(30), BASE.plusMinutes(60)));
+        assertEquals(List.of(noon), tree.getOverlapping(BASE.plusMinutes(60), BASE.plusMinutes(61)));
+        assertEquals(List.of(morning, noon), tree.getOverlapping(BASE.plusMinutes(59), BASE.plusMinutes(61)));
+        assertEquals(List.of(), tree.getOverlapping(BASE.plusMinutes(90), BASE.plusMinutes(120)));
+    }
+
+    @Test
+    public void remove_alreadyRemoved_doesNothing() throws Exception {
+        MeetingIntervalTree.Entry entry = tree.insert(meetingAt(0, 60));
+        tree.insert(meetingAt(0, 60));
+
+        tree.remove(entry);
+        tree.remove(entry);
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void randomOperations_matchBruteForce() throws Exception {
+        Random random = new Random(42);
+        List<MeetingIntervalTree.Entry> entries = new ArrayList<>();
+        List<PersonMeeting> expected = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            if (!entries.isEmpty() && random.nextInt(3) == 0) {
+                int removed = random.nextInt(entries.size());
+                tree.remove(entries.remove(removed));
+                expected.remove(removed);
+            } else {
+                PersonMeeting meeting = meetingAt(random.nextInt(24 * 60), 1 + random.nextInt(180));
+                entries.add(tree.insert(meeting));
+                expected.add(meeting);
+            }
+
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(240));
+            assertEquals(expected.size(), tree.size());
+            assertEquals(sortedByStart(expected.stream()
+                    .filter(m -> m.getMeeting().getDateTime().isBefore(end)
+                            && m.getMeeting().getEndDateTime().isAfter(start))
+                    .collect(Collectors.toList())), tree.getOverlapping(start, end));
+            assertEquals(sortedByStart(expected.stream()
+                    .filter(m -> !m.getMeeting().getDateTime().isBefore(start)
+                            && !m.getMeeting().getDateTime().isAfter(end))
+                    .collect(Collectors.toList())), tree.getStartingBetween(start, end));
+        }
+        assertEquals(sortedByStart(expected), tree.toList());
+    }
+
+    /**
+     * Sorts meetings by start, keeping meetings with the same start in the order they were inserted.
+     */
+    private List<PersonMeeting> sortedByStart(List<PersonMeeting> meetings) {
+        List<PersonMeeting> sorted = new ArrayList<>(meetings);
+        sorted.sort(Comparator.comparing(m -> m.getMeeting().getDateTime()));
+        return sorted;
+    }
+
+    private static PersonMeeting meetingAt(int startMinute, int minutes) throws Exception {
+        Meeting meeting = new Meeting(new MeetingName("Meeting"), new Venue("Office"),
+                new When(BASE.plusMinutes(startMinute)), new MeetingDuration(minutes));
+        return new PersonMeeting(PERSON, meeting);
+    }
+
+}
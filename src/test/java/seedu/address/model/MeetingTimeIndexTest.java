@@ -0,0 +1,231 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingClash;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.PersonMeeting;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
+import seedu.address.model.meeting.Venue;
+import seedu.address.model.meeting.When;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MeetingTimeIndexTest {
+
+    private static final LocalDateTime MIN = LocalDateTime.MIN;
+    private static final LocalDateTime MAX = LocalDateTime.MAX;
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final MeetingTimeIndex index = new MeetingTimeIndex(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MeetingTimeIndex(null));
+    }
+
+    @Test
+    public void getMeetingsBetween_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> index.getMeetingsBetween(null, MAX));
+        assertThrows(NullPointerException.class, () -> index.getMeetingsBetween(MIN, null));
+        assertThrows(IllegalArgumentException.class, MeetingTimeIndex.MESSAGE_INVALID_RANGE, () ->
+                index.getMeetingsBetween(MAX, MIN));
+    }
+
+    @Test
+    public void getMeetingsBetween_range_meetingsInRangeInOrder() {
+        PersonMeeting carl = meetingOf(CARL, 0);
+        PersonMeeting elle = meetingOf(ELLE, 0);
+        PersonMeeting fiona = meetingOf(FIONA, 0);
+
+        assertEquals(List.of(carl, fiona, elle), index.getMeetingsBetween(MIN, MAX));
+
+        // both ends inclusive
+        assertEquals(List.of(fiona, elle), index.getMeetingsBetween(fiona.getMeeting().getDateTime(),
+                elle.getMeeting().getDateTime()));
+        assertEquals(List.of(carl), index.getMeetingsBetween(carl.getMeeting().getDateTime(),
+                carl.getMeeting().getDateTime()));
+
+        // empty range
+        assertEquals(List.of(), index.getMeetingsBetween(LocalDateTime.of(2021, 1, 1, 0, 0),
+                LocalDateTime.of(2021, 12, 31, 23, 59)));
+    }
+
+    @Test
+    public void getMeetingsBetween_personsChanged_indexUpdated() throws Exception {
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(new Meeting("Budget review", "Office", "2021-06-01 1000"),
+                        new Meeting("Hiring sync", "Office", "2021-06-01 1000"),
+                        new Meeting("Offsite", "Beach", "2021-07-01 1000")).build();
+        LocalDateTime june = LocalDateTime.of(2021, 6, 1, 10, 0);
+        LocalDateTime july = LocalDateTime.of(2021, 7, 1, 10, 0);
+
+        // added
+        addressBook.addPerson(person);
+        assertEquals(List.of(meetingOf(person, 0), meetingOf(person, 1), meetingOf(person, 2)),
+                index.getMeetingsBetween(june, july));
+
+        // meeting edited
+        Person edited = new PersonBuilder(person)
+                .withMeetings(new Meeting("Budget review", "Office", "2021-06-01 1000"),
+                        new Meeting("Hiring sync", "Office", "2021-06-01 1000"),
+                        new Meeting("Offsite", "Beach", "2021-08-01 1000")).build();
+        addressBook.setPerson(person, edited);
+        assertEquals(List.of(meetingOf(edited, 0), meetingOf(edited, 1)), index.getMeetingsBetween(june, july));
+
+        // meeting deleted
+        Person copy = new PersonBuilder(edited)
+                .withMeetings(new Meeting("Hiring sync", "Office", "2021-06-01 1000"),
+                        new Meeting("Offsite", "Beach", "2021-08-01 1000")).build();
+        addressBook.setPerson(edited, copy);
+        assertEquals(List.of(meetingOf(copy, 0)), index.getMeetingsBetween(june, july));
+
+        // removed
+        addressBook.removePerson(copy);
+        assertEquals(List.of(), index.getMeetingsBetween(june, july.plusMonths(1)));
+    }
+
+    @Test
+    public void getMeetingsBetween_dataReset_indexesNewData() {
+        addressBook.resetData(new AddressBook());
+        assertEquals(List.of(), index.getMeetingsBetween(MIN, MAX));
+    }
+
+    @Test
+    public void getClashes_noOverlaps_noClashes() {
+        assertEquals(List.of(), index.getClashes());
+    }
+
+    @Test
+    public void getClashes_overlappingMeetings_allPairsFound() throws Exception {
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(new Meeting(new MeetingName("Long workshop"), new Venue("Hall"),
+                                new When("2021-06-01 0900"), new MeetingDuration(180)),
+                        new Meeting("Standup", "Office", "2021-06-01 0930"),
+                        new Meeting("Lunch", "Canteen", "2021-06-01 1200"),
+                        new Meeting("Review", "Office", "2021-06-01 1030")).build();
+        addressBook.addPerson(person);
+        PersonMeeting workshop = meetingOf(person, 0);
+        PersonMeeting standup = meetingOf(person, 1);
+        PersonMeeting lunch = meetingOf(person, 2);
+        PersonMeeting review = meetingOf(person, 3);
+
+        // the workshop ends exactly when lunch starts, and the standup exactly when the review starts
+        assertEquals(List.of(new MeetingClash(workshop, standup), new MeetingClash(workshop, review)),
+                index.getClashes());
+        assertEquals(List.of(workshop, standup, review), index.getClashingMeetings(
+                new Meeting("Call", "Phone", "2021-06-01 0945")));
+        assertEquals(List.of(lunch), index.getClashingMeetings(lunch.getMeeting()));
+    }
+
+    @Test
+    public void getMeetingsBetween_recurringMeeting_occurrencesInRange() throws Exception {
+        Meeting standup = new Meeting(new MeetingName("Standup"), new Venue("Office"), new When("2021-06-01 0900"),
+                new MeetingDuration(15), new Recurrence(Frequency.DAILY, 1000));
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(standup, new Meeting("Review", "Office", "2021-06-03 0900")).build();
+        addressBook.addPerson(person);
+        PersonMeeting review = meetingOf(person, 1);
+
+        // meetings that do not repeat first at the same time
+        assertEquals(List.of(review, occurrenceOf(person, standup, 2), occurrenceOf(person, standup, 3)),
+                index.getMeetingsBetween(LocalDateTime.of(2021, 6, 3, 0, 0), LocalDateTime.of(2021, 6, 4, 9, 0)));
+
+        // far into the series
+        assertEquals(List.of(occurrenceOf(person, standup, 999)), index.getMeetingsBetween(
+                LocalDateTime.of(2024, 2, 25, 0, 0), LocalDateTime.of(2024, 12, 31, 0, 0)));
+
+        // removed with the person
+        addressBook.removePerson(person);
+        assertEquals(List.of(), index.getMeetingsBetween(LocalDateTime.of(2021, 6, 1, 0, 0),
+                LocalDateTime.of(2021, 6, 30, 0, 0)));
+    }
+
+    @Test
+    public void getClashes_recurringMeeting_occurrencesClash() throws Exception {
+        Meeting standup = new Meeting(new MeetingName("Standup"), new Venue("Office"), new When("2021-06-01 0900"),
+                new MeetingDuration(30), new Recurrence(Frequency.DAILY, 5));
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(standup, new Meeting("Call", "Phone", "2021-06-03 0915")).build();
+        addressBook.addPerson(person);
+        PersonMeeting call = meetingOf(person, 1);
+
+        assertEquals(List.of(new MeetingClash(occurrenceOf(person, standup, 2), call)), index.getClashes());
+        assertEquals(List.of(occurrenceOf(person, standup, 2), call), index.getClashingMeetings(call.getMeeting()));
+
+        // every occurrence of a recurring meeting is checked
+        Meeting weekly = new Meeting(new MeetingName("Planning"), new Venue("Office"), new When("2021-05-27 0920"),
+                new MeetingDuration(60), new Recurrence(Frequency.WEEKLY, LocalDateTime.of(2021, 6, 3, 9, 20)));
+        assertEquals(List.of(occurrenceOf(person, standup, 2), call), index.getClashingMeetings(weekly));
+    }
+
+    @Test
+    public void getMeetingsBetween_seriesOutsideRange_notIncluded() throws Exception {
+        Meeting past = new Meeting(new MeetingName("Past"), new Venue("Office"), new When("2021-06-01 0900"),
+                new MeetingDuration(60), new Recurrence(Frequency.DAILY, 3));
+        Meeting current = new Meeting(new MeetingName("Current"), new Venue("Office"), new When("2021-06-02 1000"),
+                new MeetingDuration(60), new Recurrence(Frequency.WEEKLY, 3));
+        Meeting future = new Meeting(new MeetingName("Future"), new Venue("Office"), new When("2021-07-01 0900"),
+                new MeetingDuration(60), new Recurrence(Frequency.MONTHLY, 3));
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(past, current, future).build();
+        addressBook.addPerson(person);
+
+        assertEquals(List.of(occurrenceOf(person, current, 7), occurrenceOf(person, current, 14)),
+                index.getMeetingsBetween(
+                LocalDateTime.of(2021, 6, 4, 0, 0), LocalDateTime.of(2021, 6, 30, 0, 0)));
+
+        // the range ends exactly when the last occurrence of a series starts
+        assertEquals(List.of(occurrenceOf(person, past, 2)), index.getMeetingsBetween(
+                LocalDateTime.of(2021, 6, 3, 9, 0), LocalDateTime.of(2021, 6, 3, 9, 0)));
+
+        // the range ends exactly when the first occurrence of a series starts
+        assertEquals(List.of(new PersonMeeting(person, future.getOccurrences().next())), index.getMeetingsBetween(
+                LocalDateTime.of(2021, 6, 24, 0, 0), LocalDateTime.of(2021, 7, 1, 9, 0)));
+    }
+
+    @Test
+    public void getClashes_recurringMeetingsClashing_inOrderOfStart() throws Exception {
+        Meeting standup = new Meeting(new MeetingName("Standup"), new Venue("Office"), new When("2021-06-01 0900"),
+                new MeetingDuration(30), new Recurrence(Frequency.DAILY, 3));
+        Meeting sync = new Meeting(new MeetingName("Sync"), new Venue("Office"), new When("2021-06-02 0900"),
+                new MeetingDuration(60), new Recurrence(Frequency.DAILY, LocalDateTime.of(2021, 6, 3, 9, 0)));
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(new Meeting("Call", "Phone", "2021-06-02 0900"), sync, standup).build();
+        addressBook.addPerson(person);
+        PersonMeeting call = meetingOf(person, 0);
+
+        // meetings that do not repeat come first among those with the same start, then series by their start
+        assertEquals(List.of(new MeetingClash(call, occurrenceOf(person, standup, 1)),
+                new MeetingClash(call, occurrenceOf(person, sync, 0)),
+                new MeetingClash(occurrenceOf(person, standup, 1), occurrenceOf(person, sync, 0)),
+                new MeetingClash(occurrenceOf(person, standup, 2), occurrenceOf(person, sync, 1))),
+                index.getClashes());
+
+        addressBook.removePerson(person);
+        assertEquals(List.of(), index.getClashes());
+    }
+
+    private static PersonMeeting occurrenceOf(Person person, Meeting meeting, int n) {
+        Meeting occurrence = meeting.getOccurrencesFrom(meeting.getDateTime().plusDays(n)).next();
+        return new PersonMeeting(person, occurrence);
+    }
+
+    private static PersonMeeting meetingOf(Person person, int meetingIndex) {
+        return new PersonMeeting(person, person.getMeetings().get(meetingIndex));
+    }
+
+}
@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.MeetingNameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonWordCacheTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final PersonWordCache cache = PersonWordCache.ofNames(addressBook.getPersonList());
+    private final PersonWordCache meetingCache = PersonWordCache.ofMeetingNames(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonWordCache(null, person -> List.of()));
+        assertThrows(NullPointerException.class, () -> new PersonWordCache(addressBook.getPersonList(), null));
+    }
+
+    @Test
+    public void matcher_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cache.matcher(null));
+    }
+
+    @Test
+    public void matcher_keywords_matchesSamePersonsAsPredicate() {
+        List<List<String>> keywordLists = List.of(List.of(), List.of("Meier"), List.of("meIER", "alice"),
+                List.of("Kurz", "Elle", "Kunz"), List.of("Mei"), List.of("  pauline  "), List.of("nobody"));
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(predicate.test(person), cache.matcher(keywords).test(person), keywords + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void matcher_personReplaced_testsReplacement() {
+        Predicate<Person> matcher = cache.matcher(List.of("meier"));
+        Person flaggedBenson = new PersonBuilder(BENSON).withFlagStatus(true).build();
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName("Daniel Kurz").build();
+
+        // tested before and after the cache sees the replacement
+        assertTrue(matcher.test(flaggedBenson));
+        assertFalse(matcher.test(renamedDaniel));
+        addressBook.setPerson(BENSON, flaggedBenson);
+        addressBook.setPerson(DANIEL, renamedDaniel);
+        assertTrue(matcher.test(flaggedBenson));
+        assertFalse(matcher.test(renamedDaniel));
+    }
+
+    @Test
+    public void matcher_meetingKeywords_matchesSamePersonsAsPredicate() {
+        List<List<String>> keywordLists = List.of(List.of(), List.of("MEETING"), List.of("zoom", "Teams"),
+                List.of("meets"), List.of("meet"), List.of("nothing"));
+        for (List<String> keywords : keywordLists) {
+            MeetingNameContainsKeywordsPredicate predicate = new MeetingNameContainsKeywordsPredicate(keywords);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(predicate.test(person), meetingCache.matcher(keywords).test(person),
+                        keywords + " " + person);
+            }
+        }
+    }
+
+    @Test
+    public void matcher_meetingEdited_testsNewMeetingName() throws Exception {
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567")
+                .withMeetings(new Meeting("Budget review", "Office", "2025-01-01 1000")).build();
+        addressBook.addPerson(person);
+        Person edited = new PersonBuilder(person)
+                .withMeetings(new Meeting("Hiring sync", "Office", "2025-01-01 1000")).build();
+        addressBook.setPerson(person, edited);
+
+        assertFalse(meetingCache.matcher(List.of("budget", "review")).test(edited));
+        assertTrue(meetingCache.matcher(List.of("hiring")).test(edited));
+    }
+
+    @Test
+    public void matcher_personAddedOrRemoved_testsOwnName() {
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567").build();
+        Predicate<Person> matcher = cache.matcher(List.of("zoe"));
+        addressBook.addPerson(person);
+        assertTrue(matcher.test(person));
+
+        addressBook.removePerson(person);
+        addressBook.removePerson(ALICE);
+        assertTrue(matcher.test(person));
+        assertFalse(matcher.test(ALICE));
+    }
+
+    @Test
+    public void matcher_dataReset_testsNewData() {
+        Person person = new PersonBuilder().withName("Zoe Meier").withPhone("81234567").build();
+        AddressBook newData = new AddressBook();
+        newData.addPerson(person);
+        addressBook.resetData(newData);
+        assertTrue(cache.matcher(List.of("meier")).test(person));
+    }
+
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MeetingDurationTest {
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MeetingDuration(null));
+    }
+
+    @Test
+    public void constructor_invalidDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new MeetingDuration(""));
+        assertThrows(IllegalArgumentException.class, () -> new MeetingDuration(0));
+        assertThrows(IllegalArgumentException.class, () -> new MeetingDuration(MeetingDuration.MAX_MINUTES + 1));
+    }
+
+    @Test
+    public void isValidDuration() {
+        // null duration
+        assertThrows(NullPointerException.class, () -> MeetingDuration.isValidDuration(null));
+
+        // invalid duration
+        assertFalse(MeetingDuration.isValidDuration("")); // empty string
+        assertFalse(MeetingDuration.isValidDuration(" ")); // spaces only
+        assertFalse(MeetingDuration.isValidDuration("0")); // zero
+        assertFalse(MeetingDuration.isValidDuration("-5")); // negative
+        assertFalse(MeetingDuration.isValidDuration("1.5")); // not whole
+        assertFalse(MeetingDuration.isValidDuration("1441")); // longer than a day
+        assertFalse(MeetingDuration.isValidDuration("99999999999")); // too many digits
+        assertFalse(MeetingDuration.isValidDuration("1h")); // with units
+
+        // valid duration
+        assertTrue(MeetingDuration.isValidDuration("1")); // shortest
+        assertTrue(MeetingDuration.isValidDuration("090")); // leading zero
+        assertTrue(MeetingDuration.isValidDuration("1440")); // longest
+    }
+
+    @Test
+    public void constructor_validDuration_parsesMinutes() {
+        assertEquals(90, new MeetingDuration("090").minutes);
+        assertEquals(new MeetingDuration(90), new MeetingDuration("90"));
+    }
+
+    @Test
+    public void equals() {
+        MeetingDuration duration = new MeetingDuration(30);
+
+        // same values -> returns true
+        assertTrue(duration.equals(new MeetingDuration("30")));
+
+        // same object -> returns true
+        assertTrue(duration.equals(duration));
+
+        // null -> returns false
+        assertFalse(duration.equals(null));
+
+        // different types -> returns false
+        assertFalse(duration.equals(30));
+
+        // different values -> returns false
+        assertFalse(duration.equals(new MeetingDuration(45)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("45 min", new MeetingDuration(45).toString());
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.model.meeting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.meeting.Recurrence.Frequency;
+
+public class RecurrenceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 31, 9, 0);
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new Recurrence(null, 3));
+        assertThrows(NullPointerException.class, () -> new Recurrence(Frequency.DAILY, null));
+        assertThrows(IllegalArgumentException.class, Recurrence.MESSAGE_COUNT_CONSTRAINTS, () ->
+                new Recurrence(Frequency.DAILY, 0));
+        assertThrows(IllegalArgumentException.class, Recurrence.MESSAGE_COUNT_CONSTRAINTS, () ->
+                new Recurrence(Frequency.DAILY, Recurrence.MAX_COUNT + 1));
+    }
+
+    @Test
+    public void parseFrequency() {
+        assertEquals(Optional.of(Frequency.WEEKLY), Recurrence.parseFrequency("weekly"));
+        assertEquals(Optional.of(Frequency.MONTHLY), Recurrence.parseFrequency("MONTHLY"));
+        assertEquals(Optional.empty(), Recurrence.parseFrequency("yearly"));
+        assertEquals(Optional.empty(), Recurrence.parseFrequency(""));
+
+        assertTrue(Recurrence.isValidFrequency("Daily"));
+        assertFalse(Recurrence.isValidFrequency("fortnightly"));
+    }
+
+    @Test
+    public void isValidCount() {
+        // invalid count
+        assertFalse(Recurrence.isValidCount("")); // empty string
+        assertFalse(Recurrence.isValidCount("0")); // zero
+        assertFalse(Recurrence.isValidCount("-1")); // negative
+        assertFalse(Recurrence.isValidCount("1.5")); // not whole
+        assertFalse(Recurrence.isValidCount("9999999999")); // too many digits
+        assertFalse(Recurrence.isValidCount("1001")); // more than the maximum
+
+        // valid count
+        assertTrue(Recurrence.isValidCount("1"));
+        assertTrue(Recurrence.isValidCount("52"));
+        assertTrue(Recurrence.isValidCount("1000"));
+    }
+
+    @Test
+    public void isValidFrom() {
+        // count
+        assertTrue(new Recurrence(Frequency.MONTHLY, Recurrence.MAX_COUNT).isValidFrom(START));
+
+        // until before the start
+        assertFalse(new Recurrence(Frequency.DAILY, START.minusMinutes(1)).isValidFrom(START));
+
+        // until up to the start of the last occurrence allowed
+        assertTrue(new Recurrence(Frequency.DAILY, START).isValidFrom(START));
+        assertTrue(new Recurrence(Frequency.WEEKLY, START.plusWeeks(Recurrence.MAX_COUNT).minusMinutes(1))
+                .isValidFrom(START));
+
+        // until as late as the occurrence past the maximum
+        assertFalse(new Recurrence(Frequency.WEEKLY, START.plusWeeks(Recurrence.MAX_COUNT)).isValidFrom(START));
+        assertFalse(new Recurrence(Frequency.DAILY, LocalDateTime.MAX).isValidFrom(START));
+    }
+
+    @Test
+    public void getLastStart() {
+        assertEquals(START.plusDays(2), new Recurrence(Frequency.DAILY, 3).getLastStart(START));
+        assertEquals(START, new Recurrence(Frequency.DAILY, START).getLastStart(START));
+        assertEquals(START.plusWeeks(2), new Recurrence(Frequency.WEEKLY, START.plusWeeks(3).minusMinutes(1))
+                .getLastStart(START));
+
+        // whole months between the start and until fall short where the start is on a later day of the month
+        assertEquals(LocalDateTime.of(2024, 2, 29, 9, 0),
+                new Recurrence(Frequency.MONTHLY, LocalDateTime.of(2024, 2, 29, 9, 0)).getLastStart(START));
+        assertEquals(LocalDateTime.of(2024, 3, 31, 9, 0),
+                new Recurrence(Frequency.MONTHLY, LocalDateTime.of(2024, 4, 29, 9, 0)).getLastStart(START));
+    }
+
+    @Test
+    public void getStartsFrom_count_stopsAfterCount() {
+        Recurrence recurrence = new Recurrence(Frequency.DAILY, 3);
+        assertEquals(List.of(START, START.plusDays(1), START.plusDays(2)),
+                toList(recurrence.getStartsFrom(START, START)));
+
+        // from within the series
+        assertEquals(List.of(START.plusDays(2)), toList(recurrence.getStartsFrom(START, START.plusHours(25))));
+
+        // from after the series
+        assertEquals(List.of(), toList(recurrence.getStartsFrom(START, START.plusDays(3))));
+        assertEquals(List.of(), toList(recurrence.getStartsFrom(START, LocalDateTime.MAX)));
+    }
+
+    @Test
+    public void getStartsFrom_until_stopsAfterUntil() {
+        Recurrence recurrence = new Recurrence(Frequency.WEEKLY, START.plusWeeks(2));
+        assertEquals(List.of(START, START.plusWeeks(1), START.plusWeeks(2)),
+                toList(recurrence.getStartsFrom(START, LocalDateTime.MIN)));
+
+        // until just before an occurrence
+        recurrence = new Recurrence(Frequency.WEEKLY, START.plusWeeks(2).minusMinutes(1));
+        assertEquals(List.of(START.plusWeeks(1)), toList(recurrence.getStartsFrom(START, START.plusDays(1))));
+    }
+
+    @Test
+    public void getStartsFrom_monthlyOnLastDay_followsStartOfSeries() {
+        Recurrence recurrence = new Recurrence(Frequency.MONTHLY, 4);
+        assertEquals(List.of(LocalDateTime.of(2024, 2, 29, 9, 0), LocalDateTime.of(2024, 3, 31, 9, 0),
+                LocalDateTime.of(2024, 4, 30, 9, 0)),
+                toList(recurrence.getStartsFrom(START, LocalDateTime.of(2024, 2, 29, 9, 0))));
+    }
+
+    @Test
+    public void getStartsFrom_farIntoSeries_startsThere() {
+        Recurrence recurrence = new Recurrence(Frequency.DAILY, Recurrence.MAX_COUNT);
+        Iterator<LocalDateTime> starts = recurrence.getStartsFrom(START, START.plusDays(900).minusHours(1));
+        assertEquals(START.plusDays(900), starts.next());
+        assertEquals(START.plusDays(901), starts.next());
+    }
+
+    @Test
+    public void getStartsFrom_noMoreStarts_throwsNoSuchElementException() {
+        Iterator<LocalDateTime> starts = new Recurrence(Frequency.DAILY, 1).getStartsFrom(START, START);
+        starts.next();
+        assertThrows(NoSuchElementException.class, starts::next);
+    }
+
+    @Test
+    public void equals() {
+        Recurrence recurrence = new Recurrence(Frequency.WEEKLY, 10);
+
+        // same values -> returns true
+        assertTrue(recurrence.equals(new Recurrence(Frequency.WEEKLY, 10)));
+
+        // same object -> returns true
+        assertTrue(recurrence.equals(recurrence));
+
+        // null -> returns false
+        assertFalse(recurrence.equals(null));
+
+        // different types -> returns false
+        assertFalse(recurrence.equals(10));
+
+        // different values -> returns false
+        assertFalse(recurrence.equals(new Recurrence(Frequency.DAILY, 10)));
+        assertFalse(recurrence.equals(new Recurrence(Frequency.WEEKLY, 9)));
+        assertFalse(recurrence.equals(new Recurrence(Frequency.WEEKLY, START)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("weekly, 10 times", new Recurrence(Frequency.WEEKLY, 10).toString());
+        assertEquals("monthly until Jan 31 2024 09:00", new Recurrence(Frequency.MONTHLY, START).toString());
+    }
+
+    private static List<LocalDateTime> toList(Iterator<LocalDateTime> starts) {
+        List<LocalDateTime> list = new ArrayList<>();
+        starts.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.meeting;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -60,4 +62,11 @@ public class WhenTest {
         // different values -> returns false
         assertFalse(when.equals(new When("12-12-2025 14:00")));
     }
+
+    @Test
+    public void toStringMethod() throws ParseException {
+        When when = new When("12-01-2025 14:00");
+        assertEquals("Jan 12 2025 14:00", when.toString());
+        assertSame(when.toString(), when.toString()); // formatted only once
+    }
 }
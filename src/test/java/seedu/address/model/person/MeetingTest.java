@@ -3,11 +3,23 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
+import seedu.address.model.meeting.Venue;
+import seedu.address.model.meeting.When;
 
 public class MeetingTest {
     @Test
@@ -16,8 +28,41 @@ public class MeetingTest {
         String venue = "venue";
         String when = "2025-10-11 1400";
         Meeting meeting = new Meeting(meetingName, venue, when);
-        String expectedString = meetingName + " at " + venue + " (Oct 11 2025 14:00)";
+        String expectedString = meetingName + " at " + venue + " (Oct 11 2025 14:00, 60 min)";
         assertEquals(expectedString, meeting.toString());
+
+        Meeting recurring = new Meeting(new MeetingName(meetingName), new Venue(venue), new When(when),
+                new MeetingDuration(60), new Recurrence(Frequency.WEEKLY, 10));
+        assertEquals(meetingName + " at " + venue + " (Oct 11 2025 14:00, 60 min, weekly, 10 times)",
+                recurring.toString());
+    }
+
+    @Test
+    public void constructor_untilBeforeStart_throwsIllegalArgumentException() throws ParseException {
+        When when = new When("2025-10-11 1400");
+        Recurrence until = new Recurrence(Frequency.DAILY, LocalDateTime.of(2025, 10, 11, 13, 59));
+        assertThrows(IllegalArgumentException.class, Meeting.MESSAGE_RECURRENCE_CONSTRAINTS, () ->
+                new Meeting(new MeetingName("meeting"), new Venue("venue"), when, new MeetingDuration(60), until));
+
+        // until exactly the start is a single occurrence
+        Meeting meeting = new Meeting(new MeetingName("meeting"), new Venue("venue"), when, new MeetingDuration(60),
+                new Recurrence(Frequency.DAILY, when.value));
+        assertEquals(List.of(when.value), startsOf(meeting.getOccurrences()));
+    }
+
+    @Test
+    public void constructor_untilBeyondMaxCount_throwsIllegalArgumentException() throws ParseException {
+        When when = new When("2025-10-11 1400");
+        LocalDateTime lastAllowed = when.value.plusDays(Recurrence.MAX_COUNT - 1);
+        Recurrence tooFar = new Recurrence(Frequency.DAILY, lastAllowed.plusDays(1));
+        assertThrows(IllegalArgumentException.class, Meeting.MESSAGE_RECURRENCE_CONSTRAINTS, () ->
+                new Meeting(new MeetingName("meeting"), new Venue("venue"), when, new MeetingDuration(60), tooFar));
+
+        // until just before the occurrence past the maximum
+        Meeting meeting = new Meeting(new MeetingName("meeting"), new Venue("venue"), when, new MeetingDuration(60),
+                new Recurrence(Frequency.DAILY, lastAllowed.plusDays(1).minusMinutes(1)));
+        assertEquals(Recurrence.MAX_COUNT, startsOf(meeting.getOccurrences()).size());
+        assertEquals(lastAllowed.plusMinutes(60), meeting.getLastEndDateTime());
     }
 
     @Test
@@ -36,6 +81,80 @@ public class MeetingTest {
         Meeting differentMeeting = new Meeting("another meeting", "another venue",
                 "2025-12-12 1800");
         assertFalse(meeting.equals(differentMeeting));
+
+        Meeting differentDuration = new Meeting(meeting.getMeetingName(), meeting.getVenue(), meeting.getWhen(),
+                new MeetingDuration(30));
+        assertFalse(meeting.equals(differentDuration));
+
+        Meeting recurring = new Meeting(meeting.getMeetingName(), meeting.getVenue(), meeting.getWhen(),
+                meeting.getDuration(), new Recurrence(Frequency.DAILY, 2));
+        assertFalse(meeting.equals(recurring));
+        assertTrue(recurring.equals(new Meeting(meeting.getMeetingName(), meeting.getVenue(), meeting.getWhen(),
+                meeting.getDuration(), new Recurrence(Frequency.DAILY, 2))));
+    }
+
+    @Test
+    public void getOccurrencesFrom() throws ParseException {
+        Meeting oneOff = new Meeting("meeting", "venue", "2025-10-11 1400");
+        assertEquals(List.of(oneOff.getDateTime()), startsOf(oneOff.getOccurrencesFrom(LocalDateTime.MIN)));
+        assertEquals(List.of(), startsOf(oneOff.getOccurrencesFrom(oneOff.getDateTime().plusMinutes(1))));
+
+        Meeting recurring = new Meeting(oneOff.getMeetingName(), oneOff.getVenue(), oneOff.getWhen(),
+                new MeetingDuration(90), new Recurrence(Frequency.WEEKLY, 3));
+        LocalDateTime start = recurring.getDateTime();
+        assertEquals(List.of(start, start.plusWeeks(1), start.plusWeeks(2)), startsOf(recurring.getOccurrences()));
+        assertEquals(List.of(start.plusWeeks(2)), startsOf(recurring.getOccurrencesFrom(start.plusDays(8))));
+
+        // an occurrence still ongoing ends after the time
+        assertEquals(List.of(start.plusWeeks(1), start.plusWeeks(2)),
+                startsOf(recurring.getOccurrencesEndingAfter(start.plusWeeks(1).plusMinutes(89))));
+        assertEquals(List.of(start.plusWeeks(2)),
+                startsOf(recurring.getOccurrencesEndingAfter(start.plusWeeks(1).plusMinutes(90))));
+
+        // occurrences are one-off meetings with the same details
+        Meeting occurrence = recurring.getOccurrencesFrom(start.plusDays(1)).next();
+        assertFalse(occurrence.isRecurring());
+        assertEquals(recurring.getMeetingName(), occurrence.getMeetingName());
+        assertEquals(recurring.getDuration(), occurrence.getDuration());
+    }
+
+    @Test
+    public void hasOccurrence() throws ParseException {
+        Meeting oneOff = new Meeting("meeting", "venue", "2025-10-11 1400");
+        assertTrue(oneOff.hasOccurrence(oneOff));
+        assertFalse(oneOff.hasOccurrence(new Meeting("meeting", "venue", "2025-10-18 1400")));
+
+        Meeting recurring = new Meeting(oneOff.getMeetingName(), oneOff.getVenue(), oneOff.getWhen(),
+                oneOff.getDuration(), new Recurrence(Frequency.WEEKLY, 3));
+        assertTrue(recurring.hasOccurrence(oneOff));
+        assertTrue(recurring.hasOccurrence(new Meeting("meeting", "venue", "2025-10-25 1400")));
+
+        // after the last occurrence, off the schedule or with different details
+        assertFalse(recurring.hasOccurrence(new Meeting("meeting", "venue", "2025-11-01 1400")));
+        assertFalse(recurring.hasOccurrence(new Meeting("meeting", "venue", "2025-10-19 1400")));
+        assertFalse(recurring.hasOccurrence(new Meeting("other", "venue", "2025-10-18 1400")));
+    }
+
+    @Test
+    public void getEndDateTime() throws ParseException {
+        Meeting meeting = new Meeting(new MeetingName("meeting"), new Venue("venue"), new When("2025-10-11 2330"),
+                new MeetingDuration(45));
+        assertEquals(LocalDateTime.of(2025, 10, 12, 0, 15), meeting.getEndDateTime());
+    }
+
+    @Test
+    public void overlaps() throws ParseException {
+        Meeting meeting = new Meeting(new MeetingName("meeting"), new Venue("venue"), new When("2025-10-11 1400"),
+                new MeetingDuration(60));
+
+        // overlapping either end -> returns true
+        assertTrue(meeting.overlaps(new Meeting("other", "venue", "2025-10-11 1330")));
+        assertTrue(meeting.overlaps(new Meeting("other", "venue", "2025-10-11 1459")));
+        assertTrue(meeting.overlaps(meeting));
+
+        // only touching -> returns false
+        assertFalse(meeting.overlaps(new Meeting("other", "venue", "2025-10-11 1300")));
+        assertFalse(meeting.overlaps(new Meeting("other", "venue", "2025-10-11 1500")));
     }
 
     @Test
@@ -43,4 +162,10 @@ public class MeetingTest {
         Meeting meeting = new Meeting("meeting", "venue", "2025-10-11 1400");
         assertFalse(meeting.isMeetingNameBlank());
     }
+
+    private static List<LocalDateTime> startsOf(Iterator<Meeting> occurrences) {
+        List<LocalDateTime> starts = new ArrayList<>();
+        occurrences.forEachRemaining(occurrence -> starts.add(occurrence.getDateTime()));
+        return starts;
+    }
 }
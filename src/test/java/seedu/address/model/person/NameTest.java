@@ -7,7 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name.ValidationResult;
 
 public class NameTest {
 
@@ -28,133 +28,82 @@ public class NameTest {
     }
 
     @Test
-    public void isValidName_blankName_throwsParseException() {
-        assertThrows(ParseException.class, () -> Name.isValidName("")); // empty string
-        assertThrows(ParseException.class, () -> Name.isValidName(" ")); // spaces only
+    public void validate_blankName_returnsBlank() {
+        assertEquals(ValidationResult.BLANK, Name.validate("")); // empty string
+        assertEquals(ValidationResult.BLANK, Name.validate(" ")); // spaces only
+        assertEquals(ValidationResult.BLANK, Name.validate("\t\n")); // other whitespace only
+        assertFalse(Name.isValidName(""));
     }
 
     @Test
-    public void isValidName_blankName_throwsBlankNameParseException() {
-        try {
-            String blankName = "";
-            Name.isValidName(blankName);
-        } catch (ParseException e) {
-            assertEquals(Name.MESSAGE_CONSTRAINTS_NO_BLANK_NAME, e.getMessage());
-        }
+    public void validate_noAlphanumeric_returnsNoAlphanumeric() {
+        assertEquals(ValidationResult.NO_ALPHANUMERIC, Name.validate("^")); // only non-valid character
+        assertEquals(ValidationResult.NO_ALPHANUMERIC, Name.validate("-'./")); // only special characters
+        assertEquals(ValidationResult.NO_ALPHANUMERIC, Name.validate("bob\nby")); // spans multiple lines
+        assertFalse(Name.isValidName("^"));
     }
 
     @Test
-    public void isValidName_onlyNonValidCharacter_throwsParseException() {
-        String nonValidCharacter = "^";
-        assertThrows(ParseException.class, () -> Name.isValidName(nonValidCharacter));
+    public void validate_containsNonValidCharacter_returnsInvalidCharacter() {
+        assertEquals(ValidationResult.INVALID_CHARACTER, Name.validate("bobby^"));
+        assertEquals(ValidationResult.INVALID_CHARACTER, Name.validate("bob_by"));
+        assertEquals(ValidationResult.INVALID_CHARACTER, Name.validate("-bob^")); // checked before start and end
+        assertFalse(Name.isValidName("bobby^"));
     }
 
     @Test
-    public void isValidName_onlyNonValidCharacter_throwsAtLeastOneAlphanumericParseException() {
-        try {
-            String nonValidCharacter = "^";
-            Name.isValidName(nonValidCharacter);
-        } catch (ParseException e) {
-            assertEquals(Name.MESSAGE_CONSTRAINTS_AT_LEAST_ONE_ALPHANUMERIC, e.getMessage());
-        }
+    public void validate_startsWithNonAlphabet_returnsInvalidStartEnd() {
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("-bob")); // hyphen
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("/bob")); // slash
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("'bob")); // apostrophe
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate(".bob")); // period
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("’bob")); // curly apostrophe
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("--bob")); // checked before consecutive
+        assertFalse(Name.isValidName("-bob"));
     }
 
     @Test
-    public void isValidName_containsNonValidCharacter_throwsParseException() {
-        String containsNonValidCharacter = "bobby^";
-        assertThrows(ParseException.class, () -> Name.isValidName(containsNonValidCharacter));
+    public void validate_endsWithNonAlphabet_returnsInvalidStartEnd() {
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("bob-")); // hyphen
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("bob/")); // slash
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("bob'")); // apostrophe
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("bob.")); // period
+        assertEquals(ValidationResult.INVALID_START_END, Name.validate("bob’")); // curly apostrophe
+        assertFalse(Name.isValidName("bob-"));
     }
 
     @Test
-    public void isValidName_containsNonValidCharacter_throwsMessageConstraintsParseException() {
-        try {
-            String containsNonValidCharacter = "bobby^";
-            Name.isValidName(containsNonValidCharacter);
-        } catch (ParseException e) {
-            assertEquals(e.getMessage(), Name.MESSAGE_CONSTRAINTS);
-        }
-    }
-
-    @Test
-    public void isValidName_startsWithNonAlphabet_throwsParseException() {
-        assertThrows(ParseException.class, () -> Name.isValidName("-bob")); // hyphen
-        assertThrows(ParseException.class, () -> Name.isValidName("/bob")); // slash
-        assertThrows(ParseException.class, () -> Name.isValidName("'bob")); // apostrophe
-        assertThrows(ParseException.class, () -> Name.isValidName(".bob")); // period
-        assertThrows(ParseException.class, () -> Name.isValidName("’bob")); // curly apostrophe
-    }
-
-    @Test
-    public void isValidName_startsWithNonAlphabet_throwsInvalidStartEndParseException() {
-        try {
-            String startsWithNonAlphabet = "-bobby";
-            Name.isValidName(startsWithNonAlphabet);
-        } catch (ParseException e) {
-            assertEquals(e.getMessage(), Name.MESSAGE_CONSTRAINTS_INVALID_START_END);
-        }
-    }
-
-    @Test
-    public void isValidName_endsWithNonAlphabet_throwsParseException() {
-        assertThrows(ParseException.class, () -> Name.isValidName("bob-")); // hyphen
-        assertThrows(ParseException.class, () -> Name.isValidName("bob/")); // slash
-        assertThrows(ParseException.class, () -> Name.isValidName("bob'")); // apostrophe
-        assertThrows(ParseException.class, () -> Name.isValidName("bob.")); // period
-        assertThrows(ParseException.class, () -> Name.isValidName("bob’")); // curly apostrophe
-    }
-
-    @Test
-    public void isValidName_endsWithNonAlphabet_throwsInvalidStartEndParseException() {
-        try {
-            String endsWithNonAlphabet = "bobby ";
-            Name.isValidName(endsWithNonAlphabet);
-        } catch (ParseException e) {
-            assertEquals(e.getMessage(), Name.MESSAGE_CONSTRAINTS_INVALID_START_END);
-        }
-    }
-
-    @Test
-    public void isValidName_consecutiveSpecialCharacter_throwsParseException() {
-        assertThrows(ParseException.class, () -> Name.isValidName("bob--by")); // hyphen
-        assertThrows(ParseException.class, () -> Name.isValidName("bob  by")); // space
-        assertThrows(ParseException.class, () -> Name.isValidName("bob//by")); // slash
-        assertThrows(ParseException.class, () -> Name.isValidName("bob''by")); // apostrophe
-        assertThrows(ParseException.class, () -> Name.isValidName("bob...by")); // period
-        assertThrows(ParseException.class, () -> Name.isValidName("bob’’by")); // curly apostrophe
-    }
-
-    @Test
-    public void isValidName_consecutiveSpecialCharacter_throwsNoConsecutiveParseException() {
-        try {
-            String consecutiveSpecialCharacter = "bob----------by";
-            Name.isValidName(consecutiveSpecialCharacter);
-        } catch (ParseException e) {
-            assertEquals(e.getMessage(), Name.MESSAGE_CONSTRAINTS_NO_CONSECUTIVE_SPECIAL_CHAR);
-        }
+    public void validate_consecutiveSpecialCharacter_returnsConsecutiveSpecialCharacters() {
+        assertEquals(ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS, Name.validate("bob--by")); // hyphen
+        assertEquals(ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS, Name.validate("bob  by")); // space
+        assertEquals(ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS, Name.validate("bob//by")); // slash
+        assertEquals(ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS, Name.validate("bob''by")); // apostrophe
+        assertEquals(ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS, Name.validate("bob...by")); // period
+        assertEquals(ValidationResult.CONSECUTIVE_SPECIAL_CHARACTERS, Name.validate("bob’’by")); // curly apostrophe
+        assertFalse(Name.isValidName("bob----------by"));
     }
 
     @Test
     public void isValidName() {
         // valid name
-        try {
-            assertTrue(Name.isValidName("peter jack")); // alphabets only
-            assertTrue(Name.isValidName("12345")); // numbers only
-            assertTrue(Name.isValidName("peter the 2nd")); // alphanumeric characters
-            assertTrue(Name.isValidName("Capital Tan")); // with capital letters
-            assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
-            assertTrue(Name.isValidName("Jean-Luc Picard")); // hyphens
-            assertTrue(Name.isValidName("O'Connor")); // apostrophes
-            assertTrue(Name.isValidName("Dr. John A. Smith")); // periods
-            assertTrue(Name.isValidName("Anna/Marie")); // slashes
-            assertTrue(Name.isValidName("José Ángel")); // accented characters
-            assertTrue(Name.isValidName("D'Artagnan-Smith Jr.")); // mixed special characters
-            assertTrue(Name.isValidName("Łukasz Żółć")); // non-ASCII alphabets
-            assertTrue(Name.isValidName("A")); // single character
-            assertTrue(Name.isValidName("7")); // single digit
-            assertTrue(Name.isValidName("Élise-Marie O’Neill/Smith Jr.")); // multiple valid special characters
-        } catch (ParseException e) {
-            // This block should not be reached
-        }
+        assertTrue(Name.isValidName("peter jack")); // alphabets only
+        assertTrue(Name.isValidName("12345")); // numbers only
+        assertTrue(Name.isValidName("peter the 2nd")); // alphanumeric characters
+        assertTrue(Name.isValidName("Capital Tan")); // with capital letters
+        assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
+        assertTrue(Name.isValidName("Jean-Luc Picard")); // hyphens
+        assertTrue(Name.isValidName("O'Connor")); // apostrophes
+        assertTrue(Name.isValidName("Dr. John A. Smith")); // periods
+        assertTrue(Name.isValidName("Anna/Marie")); // slashes
+        assertTrue(Name.isValidName("José Ángel")); // accented characters
+        assertTrue(Name.isValidName("Jose\u0301")); // combining accent
+        assertTrue(Name.isValidName("D'Artagnan-Smith Jr")); // mixed special characters
+        assertTrue(Name.isValidName("Łukasz Żółć")); // non-ASCII alphabets
+        assertTrue(Name.isValidName("A")); // single character
+        assertTrue(Name.isValidName("7")); // single digit
+        assertTrue(Name.isValidName("Élise-Marie O’Neill/Smith Jr")); // multiple valid special characters
+        assertTrue(Name.isValidName("Mary-.Ann")); // different special characters next to each other
+        assertTrue(Name.isValidName("\uD801\uDC00")); // letter outside the basic multilingual plane
     }
 
     @Test
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
+import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
+import seedu.address.model.meeting.Venue;
+import seedu.address.model.meeting.When;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookCodec.isBinaryFile(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_meetingTimesWithSeconds_lossless() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withMeetings(
+                meetingAt(LocalDateTime.of(2024, 3, 1, 9, 30)),
+                meetingAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 123_456_789))).build());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_recurringMeetings_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        LocalDateTime start = LocalDateTime.of(2024, 3, 1, 9, 30);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder().withMeetings(
+                new Meeting(new MeetingName("Standup"), new Venue("Office"), new When(start), new MeetingDuration(15),
+                        new Recurrence(Frequency.DAILY, 1000)),
+                new Meeting(new MeetingName("Review"), new Venue("Office"), new When(start), MeetingDuration.DEFAULT,
+                        new Recurrence(Frequency.MONTHLY, start.plusYears(2))),
+                meetingAt(start)).build());
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_otherFormat_converted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook");
+        AddressBook original = getTypicalAddressBook();
+
+        // json -> binary
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook().get());
+        assertTrue(BinaryAddressBookCodec.isBinaryFile(filePath));
+
+        // binary -> json
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook().get());
+        assertFalse(BinaryAddressBookCodec.isBinaryFile(filePath));
+        assertEquals(original, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookCodec.MAGIC.length + 1] = (byte) (BinaryAddressBookCodec.VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidStringReference_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        // Header, an empty string table, then one person whose name refers to a string that does not exist.
+        byte[] bytes = {'A', 'B', 'K', 'B', 0, 1, 0, 1, 1, 5};
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedBytes_loadedOrThrowsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] original = Files.readAllBytes(filePath);
+        Random random = new Random(11);
+
+        // Every corruption past the header is either still a valid address book or reported as a loading failure,
+        // never an unchecked exception
+        for (int round = 0; round < 500; round++) {
+            byte[] bytes = original.clone();
+            for (int i = 1 + random.nextInt(4); i > 0; i--) {
+                int position = BinaryAddressBookCodec.MAGIC.length + 2
+                        + random.nextInt(bytes.length - BinaryAddressBookCodec.MAGIC.length - 2);
+                bytes[position] = (byte) random.nextInt(256);
+            }
+            Files.write(filePath, bytes);
+            try {
+                storage.readAddressBook();
+            } catch (DataLoadingException e) {
+                // expected for most corruptions
+            }
+        }
+    }
+
+    @Test
+    public void decodePerson_dateTimeOutOfRange_throwsIoException() throws Exception {
+        String[] strings = {PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE, PersonBuilder.DEFAULT_OTHER_PHONE,
+            PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS, "Review", "Office"};
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (int i = 1; i <= 5; i++) {
+            BinaryAddressBookCodec.writeVarLong(record, i);
+        }
+        record.writeBoolean(false);
+        BinaryAddressBookCodec.writeVarLong(record, 0); // no tags
+        BinaryAddressBookCodec.writeVarLong(record, 1); // one meeting
+        BinaryAddressBookCodec.writeVarLong(record, 6);
+        BinaryAddressBookCodec.writeVarLong(record, 7);
+        BinaryAddressBookCodec.writeVarLong(record, Long.MAX_VALUE - 1); // minutes far beyond the supported years
+
+        assertThrows(IOException.class, () -> BinaryAddressBookCodec.decodePerson(
+                ByteBuffer.wrap(recordBytes.toByteArray()), strings, BinaryAddressBookCodec.VERSION_WITHOUT_DURATIONS));
+    }
+
+    @Test
+    public void readAddressBook_countLargerThanFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        // Header, then a string table claiming more strings than there are bytes left.
+        byte[] bytes = {'A', 'B', 'K', 'B', 0, 3, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void decodePerson_versionWithoutDurations_defaultDuration() throws Exception {
+        String[] strings = {PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE, PersonBuilder.DEFAULT_OTHER_PHONE,
+            PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS, "Review", "Office"};
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (int i = 1; i <= 5; i++) {
+            BinaryAddressBookCodec.writeVarLong(record, i);
+        }
+        record.writeBoolean(false);
+        BinaryAddressBookCodec.writeVarLong(record, 0); // no tags
+        BinaryAddressBookCodec.writeVarLong(record, 1); // one meeting
+        BinaryAddressBookCodec.writeVarLong(record, 6);
+        BinaryAddressBookCodec.writeVarLong(record, 7);
+        BinaryAddressBookCodec.writeVarLong(record, 0); // at the epoch, with no duration following
+
+        Person expected = new PersonBuilder().withMeetings(meetingAt(LocalDateTime.of(1970, 1, 1, 0, 0))).build();
+        assertEquals(expected, BinaryAddressBookCodec.decodePerson(ByteBuffer.wrap(recordBytes.toByteArray()),
+                strings, BinaryAddressBookCodec.VERSION_WITHOUT_DURATIONS).toModelType());
+    }
+
+    private static Meeting meetingAt(LocalDateTime dateTime) throws Exception {
+        return new Meeting(new MeetingName("Review"), new Venue("Office"), new When(dateTime));
+    }
+
+}
@@ -0,0 +1,160 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final long LARGE_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(null, LARGE_THRESHOLD);
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesSinceSnapshot_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+
+        // First save writes a snapshot only
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+
+        // Add, edit and remove are journaled
+        original.addPerson(HOON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Elsewhere").build();
+        original.setPerson(ALICE, editedAlice);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().get());
+
+        // Saving without changes appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_bulkChange_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertFalse(Files.exists(journalFilePath));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath, 1).readAddressBook().get();
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(journalFilePath, "{\"sequence\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_incompleteLastJournalEntry_dropped() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(journalFilePath, "{\"sequence\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        // Appending starts after the last complete entry
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().get());
+
+        // The snapshot written by the first save after reading trims the journal, and later saves append to it
+        Files.write(journalFilePath, "{\"sequence\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        reopenedStorage.saveAddressBook(readBack);
+        readBack.removePerson(HOON);
+        reopenedStorage.saveAddressBook(readBack);
+        assertEquals(readBack, new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, LARGE_THRESHOLD);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(journalFilePath, "{\"sequence\":1,\"type\":\"REMOVE\",\"phone\":\"000\"}\n{}\n"
+                .getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+}
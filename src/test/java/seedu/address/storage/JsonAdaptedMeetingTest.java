@@ -10,7 +10,10 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
+import seedu.address.model.meeting.Recurrence;
+import seedu.address.model.meeting.Recurrence.Frequency;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
 
@@ -66,4 +69,67 @@ public class JsonAdaptedMeetingTest {
         String expectedMessage = String.format(Venue.MESSAGE_CONSTRAINTS);
         assertThrows(IllegalValueException.class, expectedMessage, meeting::toModelType);
     }
+
+    @Test
+    public void toModelType_validDuration_returnsMeetingWithDuration() throws Exception {
+        Meeting meeting = new Meeting(new MeetingName(VALID_MEETING_NAME), new Venue(VALID_VENUE),
+                new When(VALID_DATETIME), new MeetingDuration(90));
+        assertEquals(meeting, new JsonAdaptedMeeting(meeting).toModelType());
+    }
+
+    @Test
+    public void toModelType_nullDuration_returnsMeetingWithDefaultDuration() throws Exception {
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_MEETING_NAME, VALID_VENUE, VALID_DATETIME, null);
+        assertEquals(MeetingDuration.DEFAULT, meeting.toModelType().getDuration());
+    }
+
+    @Test
+    public void toModelType_invalidDuration_throwsIllegalValueException() {
+        JsonAdaptedMeeting meeting = new JsonAdaptedMeeting(VALID_MEETING_NAME, VALID_VENUE, VALID_DATETIME, 0);
+        assertThrows(IllegalValueException.class, MeetingDuration.MESSAGE_CONSTRAINTS, meeting::toModelType);
+    }
+
+    @Test
+    public void toModelType_validRecurrence_returnsRecurringMeeting() throws Exception {
+        Meeting weekly = new Meeting(new MeetingName(VALID_MEETING_NAME), new Venue(VALID_VENUE),
+                new When(VALID_DATETIME), new MeetingDuration(30), new Recurrence(Frequency.WEEKLY, 10));
+        assertEquals(weekly, new JsonAdaptedMeeting(weekly).toModelType());
+
+        Meeting monthly = new Meeting(new MeetingName(VALID_MEETING_NAME), new Venue(VALID_VENUE),
+                new When(VALID_DATETIME), new MeetingDuration(30),
+                new Recurrence(Frequency.MONTHLY, VALID_DATETIME.plusYears(1)));
+        assertEquals(monthly, new JsonAdaptedMeeting(monthly).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidRecurrence_throwsIllegalValueException() {
+        JsonAdaptedMeeting meeting = recurringMeeting(new JsonAdaptedRecurrence(null, 10, null));
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedRecurrence.MISSING_FIELD_MESSAGE_FORMAT, "frequency"), meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("yearly", 10, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_FREQUENCY_CONSTRAINTS, meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("weekly", null, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("weekly", 10, VALID_DATETIME));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_CONSTRAINTS, meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("weekly", 0, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_COUNT_CONSTRAINTS, meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("weekly", Recurrence.MAX_COUNT + 1, null));
+        assertThrows(IllegalValueException.class, Recurrence.MESSAGE_COUNT_CONSTRAINTS, meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("daily", null, VALID_DATETIME.plusYears(100)));
+        assertThrows(IllegalValueException.class, Meeting.MESSAGE_RECURRENCE_CONSTRAINTS, meeting::toModelType);
+
+        meeting = recurringMeeting(new JsonAdaptedRecurrence("weekly", null, VALID_DATETIME.minusMinutes(1)));
+        assertThrows(IllegalValueException.class, Meeting.MESSAGE_RECURRENCE_CONSTRAINTS, meeting::toModelType);
+    }
+
+    private static JsonAdaptedMeeting recurringMeeting(JsonAdaptedRecurrence recurrence) {
+        return new JsonAdaptedMeeting(VALID_MEETING_NAME, VALID_VENUE, VALID_DATETIME, null, recurrence);
+    }
 }
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedPersonConverterTest {
+
+    private static final int PERSON_COUNT = 1000;
+
+    private static List<Person> buildPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        return adaptedPersons;
+    }
+
+    private static JsonAdaptedPerson invalidPerson(Person person, String email) {
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value,
+                person.getOtherPhones().numbers, email, person.getAddress().value, null, null, false);
+    }
+
+    @Test
+    public void convert_validPersons_preservesOrder() throws Exception {
+        List<Person> persons = buildPersons();
+        assertEquals(persons, JsonAdaptedPersonConverter.convert(adapt(persons), 1));
+    }
+
+    @Test
+    public void convert_invalidPersons_reportsFirstInvalidPerson() {
+        List<Person> persons = buildPersons();
+        List<JsonAdaptedPerson> adaptedPersons = adapt(persons);
+        adaptedPersons.set(900, invalidPerson(persons.get(900), "invalid@email!3e"));
+        adaptedPersons.set(300, invalidPerson(persons.get(300), "invalid@email!3e"));
+        adaptedPersons.set(600, new JsonAdaptedPerson(persons.get(600).getName().fullName, "+651234",
+                null, "valid@email.com", "4th street", null, null, false));
+
+        String expectedMessage = String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, 301,
+                Email.MESSAGE_CONSTRAINTS);
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, expectedMessage, () ->
+                    JsonAdaptedPersonConverter.convert(adaptedPersons, 1));
+        }
+
+        String expectedOffsetMessage = String.format(JsonAdaptedPersonConverter.MESSAGE_INVALID_PERSON, 1201,
+                Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedOffsetMessage, () ->
+                JsonAdaptedPersonConverter.convert(adaptedPersons.subList(400, PERSON_COUNT), 1001));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +89,45 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_prettyPrintingOption_readBack() throws Exception {
+        Path compactFilePath = testFolder.resolve("Compact.json");
+        Path prettyFilePath = testFolder.resolve("Pretty.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(compactFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(prettyFilePath, 0, true).saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertTrue(Files.readAllLines(prettyFilePath).size() > 1);
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertEquals(original, new JsonAddressBookStorage(compactFilePath).readAddressBook().get());
+        assertEquals(original, new JsonAddressBookStorage(prettyFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedDataFile_fallsBackToBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, 2, false);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // Truncated data file -> most recent backup
+        Files.write(filePath, "{ \"persons\": [".getBytes());
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Missing data file -> most recent backup
+        Files.delete(filePath);
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // No usable backups -> data file error
+        Files.write(filePath, "{ \"persons\": [".getBytes());
+        Files.delete(FileUtil.getBackupFilePath(filePath, 1));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookStreamReader.read(TYPICAL_PERSONS_FILE).getAddressBook();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookStreamReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PHONES, "94351253");
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                JsonAddressBookStreamReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_savedSnapshot_sameAsTreeModel() throws Exception {
+        Path filePath = testFolder.resolve("snapshot.json");
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original, 42), filePath);
+
+        JsonAddressBookStreamReader reader = JsonAddressBookStreamReader.read(filePath);
+        assertEquals(original, reader.getAddressBook());
+        assertEquals(42, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknown.json");
+        Files.write(filePath, "{ \"version\": { \"major\": 1 }, \"tags\": [ 1, 2 ], \"persons\": [ ] }".getBytes());
+        assertEquals(new AddressBook(), JsonAddressBookStreamReader.read(filePath).getAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        Files.write(filePath, "{ \"persons\": [ ".getBytes());
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(filePath));
+
+        Files.write(filePath, new byte[0]);
+        assertThrows(IOException.class, () -> JsonAddressBookStreamReader.read(filePath));
+    }
+
+}
@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +17,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.meeting.Meeting;
+import seedu.address.model.person.Person;
 
 public class StorageManagerTest {
 
@@ -60,9 +68,63 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unmodifiedSinceLastSave_skipsWrite() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        // unchanged -> not written
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        // modified -> written
+        original.removePerson(ALICE);
+        storageManager.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_meetingsChangedThroughModel_changesSaved() throws Exception {
+        assertMeetingChangesSaved(storageManager);
+    }
+
+    @Test
+    public void saveAddressBook_journaledMeetingsChangedThroughModel_changesSaved() throws Exception {
+        JournaledAddressBookStorage addressBookStorage =
+                new JournaledAddressBookStorage(getTempFilePath("journaled"), Long.MAX_VALUE);
+        assertMeetingChangesSaved(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs"))));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    /**
+     * Saves a model, changes meetings through the model alone, saves it again and checks the changes are read back.
+     */
+    private static void assertMeetingChangesSaved(StorageManager storage) throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        storage.saveAddressBook(model.getAddressBook());
+
+        Person carl = findByPhone(model, CARL);
+        model.deleteMeetingFromPerson(carl, 0);
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        Person fiona = findByPhone(model, FIONA);
+        model.editMeeting(fiona, 0, new Meeting("Offsite", "Beach", "2025-10-13 1000"));
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private static Person findByPhone(ModelManager model, Person person) {
+        return model.getAddressBook().getPersonList().stream()
+                .filter(person::isSamePerson)
+                .findFirst()
+                .orElseThrow();
+    }
+
 }
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final long LONG_DELAY = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private int writeCount = 0;
+
+    private WriteBehindStorage createStorage(JsonAddressBookStorage addressBookStorage) {
+        return createStorage(addressBookStorage, LONG_DELAY);
+    }
+
+    private WriteBehindStorage createStorage(JsonAddressBookStorage addressBookStorage, long maxDelay) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage), maxDelay);
+    }
+
+    private JsonAddressBookStorage createFailingAddressBookStorage() {
+        return new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy");
+            }
+        };
+    }
+
+    private WriteBehindStorage createCountingStorage() {
+        return createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeCount++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        });
+    }
+
+    @Test
+    public void saveAddressBook_burstOfChanges_writtenOnce() throws Exception {
+        WriteBehindStorage storage = createCountingStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(0, writeCount);
+
+        storage.flush();
+        assertEquals(1, writeCount);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // unchanged -> nothing more to write
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(1, writeCount);
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_writesSnapshot() throws Exception {
+        WriteBehindStorage storage = createCountingStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        original.removePerson(ALICE);
+        storage.flush();
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteFailed_failurePassedToHandler() throws Exception {
+        WriteBehindStorage storage = createStorage(createFailingAddressBookStorage(), 0);
+        CompletableFuture<IOException> reportedFailure = new CompletableFuture<>();
+        storage.setSaveFailureHandler(reportedFailure::complete);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals("dummy", reportedFailure.get(10, TimeUnit.SECONDS).getMessage());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        WriteBehindStorage storage = createStorage(createFailingAddressBookStorage());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+
+        // the failure is only reported once
+        storage.flush();
+    }
+
+    @Test
+    public void saveAddressBook_afterFlush_writtenStraightAway() throws Exception {
+        WriteBehindStorage storage = createCountingStorage();
+        storage.flush();
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(1, writeCount);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import seedu.address.logic.commands.EditMeetingCommand.EditMeetingDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.meeting.Meeting;
+import seedu.address.model.meeting.MeetingDuration;
 import seedu.address.model.meeting.MeetingName;
 import seedu.address.model.meeting.Venue;
 import seedu.address.model.meeting.When;
@@ -32,6 +33,7 @@ public class EditMeetingDescriptorBuilder {
         descriptor.setMeetingName(meeting.getMeetingName());
         descriptor.setVenue(meeting.getVenue());
         descriptor.setWhen(meeting.getWhen());
+        descriptor.setDuration(meeting.getDuration());
     }
 
     /**
@@ -63,6 +65,14 @@ public class EditMeetingDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code duration} of the {@code EditMeetingDescriptor} that we are building.
+     */
+    public EditMeetingDescriptorBuilder withDuration(String duration) {
+        descriptor.setDuration(new MeetingDuration(duration));
+        return this;
+    }
+
     public EditMeetingDescriptor build() {
         return descriptor;
     }